@@ -0,0 +1,37 @@
+package de.skuzzle.roman.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs all benchmarks twice, once with a single thread and once with one thread per
+ * available core, and attaches the GC profiler to report allocation rates. Additional
+ * JMH command line options (like a benchmark name pattern) are passed through.
+ *
+ * @author Simon Taddiken
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+        // hidden
+    }
+
+    public static void main(String[] args) throws RunnerException,
+            CommandLineOptionException {
+        final CommandLineOptions commandLine = new CommandLineOptions(args);
+        final int cores = Runtime.getRuntime().availableProcessors();
+        for (final int threads : new int[] { 1, cores }) {
+            final Options options = new OptionsBuilder()
+                    .parent(commandLine)
+                    .addProfiler(GCProfiler.class)
+                    .threads(threads)
+                    .build();
+            new Runner(options).run();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package de.skuzzle.roman.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.skuzzle.roman.RomanNumeralType;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConvertBenchmark {
+
+    @Param({ "SINGLE_SUBTRACT", "DOUBLE_SUBTRACT", "ADDITIVE", "LENIENT" })
+    private RomanNumeralType source;
+
+    @Param({ "SINGLE_SUBTRACT", "DOUBLE_SUBTRACT", "ADDITIVE", "LENIENT" })
+    private RomanNumeralType target;
+
+    @Param({ "SHORT", "LONG" })
+    private Corpus corpus;
+
+    private String[] numerals;
+    private int next;
+
+    @Setup
+    public void setup() {
+        this.numerals = this.corpus.numerals(this.source);
+    }
+
+    @Benchmark
+    public String convertTo() {
+        return this.source.convertTo(this.target,
+                this.numerals[this.next++ & (Corpus.SIZE - 1)]);
+    }
+}
@@ -0,0 +1,104 @@
+package de.skuzzle.roman.benchmarks;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import de.skuzzle.roman.RomanNumeralType;
+
+/**
+ * Deterministic generator for benchmark inputs. The same seed always yields the same
+ * corpus so that results of different runs are comparable.
+ *
+ * @author Simon Taddiken
+ */
+public enum Corpus {
+    /** Valid numerals of values up to 50, which are only a few characters long. */
+    SHORT {
+        @Override
+        String numeral(RomanNumeralType type, Random random) {
+            return type.format(1 + random.nextInt(50));
+        }
+    },
+    /**
+     * Valid numerals of the values up to 3999 which have the longest representation
+     * within the respective type.
+     */
+    LONG {
+        @Override
+        String numeral(RomanNumeralType type, Random random) {
+            final int[] longest = LONGEST.computeIfAbsent(type, Corpus::longestValues);
+            return type.format(longest[random.nextInt(longest.length)]);
+        }
+    },
+    /** Valid numerals of values uniformly distributed across the bounded range. */
+    MIXED {
+        @Override
+        String numeral(RomanNumeralType type, Random random) {
+            return type.format(1 + random.nextInt(MAX_VALUE));
+        }
+    },
+    /** Numerals which are rejected at a random position. */
+    INVALID {
+        @Override
+        String numeral(RomanNumeralType type, Random random) {
+            final String valid = MIXED.numeral(type, random);
+            final int position = random.nextInt(valid.length() + 1);
+            return valid.substring(0, position) + "A" + valid.substring(position);
+        }
+    };
+
+    /** The number of inputs per corpus. Must be a power of 2. */
+    public static final int SIZE = 1024;
+    private static final long SEED = 0xA57E81C5L;
+
+    private static final int MAX_VALUE = 3999;
+    private static final Map<RomanNumeralType, int[]> LONGEST = new ConcurrentHashMap<>();
+
+    abstract String numeral(RomanNumeralType type, Random random);
+
+    /**
+     * Determines all values up to {@link #MAX_VALUE} whose numerals have the greatest
+     * length for the given type.
+     */
+    private static int[] longestValues(RomanNumeralType type) {
+        final int maxLength = IntStream.rangeClosed(1, MAX_VALUE)
+                .map(i -> type.format(i).length())
+                .max()
+                .getAsInt();
+        return IntStream.rangeClosed(1, MAX_VALUE)
+                .filter(i -> type.format(i).length() == maxLength)
+                .toArray();
+    }
+
+    /**
+     * Generates the numerals of this corpus for the given type.
+     *
+     * @param type The type.
+     * @return {@link #SIZE} numerals.
+     */
+    public String[] numerals(RomanNumeralType type) {
+        final Random random = new Random(SEED);
+        final String[] result = new String[SIZE];
+        for (int i = 0; i < SIZE; ++i) {
+            result[i] = numeral(type, random);
+        }
+        return result;
+    }
+
+    /**
+     * Generates the values of this corpus for the given type.
+     *
+     * @param type The type.
+     * @return {@link #SIZE} values.
+     */
+    public int[] values(RomanNumeralType type) {
+        final String[] numerals = numerals(type);
+        final int[] result = new int[SIZE];
+        for (int i = 0; i < SIZE; ++i) {
+            result[i] = type.tryParse(numerals[i]).orElse(1);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,45 @@
+package de.skuzzle.roman.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.skuzzle.roman.RomanNumeralType;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormatBenchmark {
+
+    @Param({ "SINGLE_SUBTRACT", "DOUBLE_SUBTRACT", "ADDITIVE", "LENIENT" })
+    private RomanNumeralType type;
+
+    @Param({ "SHORT", "LONG", "MIXED" })
+    private Corpus corpus;
+
+    private int[] values;
+    private int next;
+
+    @Setup
+    public void setup() {
+        this.values = this.corpus.values(this.type);
+    }
+
+    @Benchmark
+    public String format() {
+        return this.type.format(this.values[this.next++ & (Corpus.SIZE - 1)]);
+    }
+}
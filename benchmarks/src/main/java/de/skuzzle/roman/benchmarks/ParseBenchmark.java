@@ -0,0 +1,68 @@
+package de.skuzzle.roman.benchmarks;
+
+import java.text.NumberFormat;
+import java.text.ParsePosition;
+import java.util.OptionalInt;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.skuzzle.roman.RomanNumeralType;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParseBenchmark {
+
+    @Param({ "SINGLE_SUBTRACT", "DOUBLE_SUBTRACT", "ADDITIVE", "LENIENT" })
+    private RomanNumeralType type;
+
+    @Param({ "SHORT", "LONG", "INVALID" })
+    private Corpus corpus;
+
+    private String[] numerals;
+    private NumberFormat numberFormat;
+    private int next;
+
+    @Setup
+    public void setup() {
+        this.numerals = this.corpus.numerals(this.type);
+        this.numberFormat = this.type.getNumberFormat();
+    }
+
+    private String nextNumeral() {
+        return this.numerals[this.next++ & (Corpus.SIZE - 1)];
+    }
+
+    @Benchmark
+    public int parse() {
+        try {
+            return this.type.parse(nextNumeral());
+        } catch (final IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    @Benchmark
+    public OptionalInt tryParse() {
+        return this.type.tryParse(nextNumeral());
+    }
+
+    @Benchmark
+    public Number numberFormatParse() {
+        return this.numberFormat.parse(nextNumeral(), new ParsePosition(0));
+    }
+}
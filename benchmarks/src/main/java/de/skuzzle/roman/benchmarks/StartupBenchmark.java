@@ -0,0 +1,44 @@
+package de.skuzzle.roman.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.skuzzle.roman.RomanNumeralType;
+
+/**
+ * Measures the time of the very first operation within a fresh VM, which includes
+ * loading and initializing the library's classes and building the tables of the used
+ * type. Every fork executes the operation exactly once.
+ *
+ * @author Simon Taddiken
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class StartupBenchmark {
+
+    @Benchmark
+    public String firstFormat() {
+        return RomanNumeralType.SINGLE_SUBTRACT.format(1994);
+    }
+
+    @Benchmark
+    public int firstParse() {
+        return RomanNumeralType.SINGLE_SUBTRACT.parse("MCMXCIV");
+    }
+
+    @Benchmark
+    public String firstConvert() {
+        return RomanNumeralType.LENIENT.convertTo(RomanNumeralType.SINGLE_SUBTRACT,
+                "MDCCCCLXXXXIIII");
+    }
+}
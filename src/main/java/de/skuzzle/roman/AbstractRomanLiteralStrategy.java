@@ -1,11 +1,101 @@
 package de.skuzzle.roman;
 
+import java.nio.CharBuffer;
 import java.text.ParsePosition;
 
 abstract class AbstractRomanLiteralStrategy implements RomanLiteralStrategy {
 
+    private volatile LiteralAutomaton automaton;
+    private volatile DigitFormatTable formatTable;
+    private volatile PerfectHashTable perfectHashTable;
+    private final DigitFormatTable[] styledFormatTables =
+            new DigitFormatTable[NumeralStyle.values().length];
+
     protected abstract Literal[] getLiterals();
 
+    @Override
+    public LiteralAutomaton getAutomaton() {
+        LiteralAutomaton result = this.automaton;
+        if (result == null) {
+            // racy but benign: the automaton is immutable and compiling it is
+            // deterministic
+            result = LiteralAutomaton.compile(this, getLiterals());
+            this.automaton = result;
+        }
+        return result;
+    }
+
+    /**
+     * Whether this strategy's numerals should be looked up in a {@link PerfectHashTable}
+     * before being parsed by the automaton. This pays off for naturally bounded
+     * strategies, whose few thousand numerals are short enough to be packed into a
+     * single key.
+     *
+     * @return Whether to use a perfect hash table.
+     */
+    protected boolean isPerfectHashEnabled() {
+        return false;
+    }
+
+    PerfectHashTable getPerfectHashTable() {
+        if (!isPerfectHashEnabled()) {
+            return null;
+        }
+        PerfectHashTable result = this.perfectHashTable;
+        if (result == null) {
+            // racy but benign, see above
+            result = PerfectHashTable.build(this);
+            this.perfectHashTable = result;
+        }
+        return result;
+    }
+
+    @Override
+    public long parse(CharSequence s, int from, int to) {
+        final PerfectHashTable table = getPerfectHashTable();
+        if (table != null) {
+            final int value = table.lookup(s, from, to);
+            if (value != PerfectHashTable.NOT_FOUND) {
+                return PackedParseResult.success(value);
+            }
+        }
+        return getAutomaton().parse(s, from, to);
+    }
+
+    @Override
+    public boolean isValid(CharSequence s, int from, int to) {
+        final PerfectHashTable table = getPerfectHashTable();
+        if (table != null && table.lookup(s, from, to) != PerfectHashTable.NOT_FOUND) {
+            return true;
+        }
+        return getAutomaton().isValid(s, from, to);
+    }
+
+    @Override
+    public DigitFormatTable getFormatTable() {
+        DigitFormatTable result = this.formatTable;
+        if (result == null) {
+            // racy but benign, see above
+            result = DigitFormatTable.compile(this);
+            this.formatTable = result;
+        }
+        return result;
+    }
+
+    @Override
+    public DigitFormatTable getFormatTable(NumeralStyle style) {
+        if (style == NumeralStyle.UPPER_CASE) {
+            return getFormatTable();
+        }
+        DigitFormatTable result = this.styledFormatTables[style.ordinal()];
+        if (result == null) {
+            // racy but benign, the table's fields are final
+            result = getFormatTable().withStyle(style);
+            this.styledFormatTables[style.ordinal()] = result;
+        }
+        return result;
+    }
+
     @Override
     public boolean isZeroSupported() {
         return Settings.ALLOW_ZERO;
@@ -18,15 +108,15 @@ abstract class AbstractRomanLiteralStrategy implements RomanLiteralStrategy {
 
     @Override
     public Literal findNext(char[] stream, ParsePosition position) {
-        for (int i = 0; i < getLiterals().length; ++i) {
-            final Literal test = getLiterals()[i];
-            if (test.matches(stream, position.getIndex())) {
-                position.setIndex(position.getIndex() + test.length());
-                return test;
-            }
+        final LiteralAutomaton automaton = getAutomaton();
+        final int literal = automaton.literalAt(CharBuffer.wrap(stream), position.getIndex(),
+                stream.length);
+        if (literal == LiteralAutomaton.NO_MATCH) {
+            position.setErrorIndex(position.getIndex());
+            return null;
         }
-        position.setErrorIndex(position.getIndex());
-        return null;
+        position.setIndex(position.getIndex() + automaton.lengthOf(literal));
+        return automaton.getLiteral(literal);
     }
 
     @Override
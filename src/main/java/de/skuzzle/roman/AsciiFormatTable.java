@@ -0,0 +1,244 @@
+package de.skuzzle.roman;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Holds the ASCII encoded numerals of a single {@link RomanNumeralType} within one packed
+ * byte array. The numeral for value {@code v} occupies the bytes from
+ * {@code offsets[v]} (inclusive) to {@code offsets[v + 1]} (exclusive).
+ *
+ * <p>
+ * The table covers every value up to {@code 3999}. Greater values, which only occur with
+ * types that are not naturally bounded, are written as a run of {@code M} followed by
+ * the table entry for the remainder modulo {@code 1000}. This is exactly the numeral the
+ * greedy format algorithm would produce, as {@code M} is the biggest literal of every
+ * type. Such runs are written in bulk.
+ * </p>
+ *
+ * @author Simon Taddiken
+ */
+final class AsciiFormatTable {
+
+    private static final int MAX_TABLE_VALUE = 3999;
+    private static final int THOUSAND = 1000;
+    private static final byte M = 'M';
+
+    /** Chunks used to write long runs of {@code M} in bulk. */
+    private static final byte[] M_RUN_BYTES = new byte[256];
+    private static final String M_RUN;
+    static {
+        Arrays.fill(M_RUN_BYTES, M);
+        M_RUN = new String(M_RUN_BYTES, StandardCharsets.US_ASCII);
+    }
+
+    private final byte[] packed;
+    private final int[] offsets;
+    private final int maxTableValue;
+
+    private AsciiFormatTable(byte[] packed, int[] offsets) {
+        this.packed = packed;
+        this.offsets = offsets;
+        this.maxTableValue = offsets.length - 2;
+    }
+
+    /**
+     * Builds the table for the given type.
+     *
+     * @param type The type.
+     * @return The table.
+     */
+    public static AsciiFormatTable build(RomanNumeralType type) {
+        final int maxTableValue = Math.min(MAX_TABLE_VALUE, type.getMaxValue());
+        final DigitFormatTable format = type.getStrategy().getFormatTable();
+        final byte[][] numerals = new byte[maxTableValue + 1][];
+        int size = 0;
+        for (int i = 0; i <= maxTableValue; ++i) {
+            final char[] numeral = format.toChars(i);
+            numerals[i] = new byte[numeral.length];
+            for (int j = 0; j < numeral.length; ++j) {
+                numerals[i][j] = (byte) numeral[j];
+            }
+            size += numeral.length;
+        }
+
+        final byte[] packed = new byte[size];
+        final int[] offsets = new int[maxTableValue + 2];
+        int offset = 0;
+        for (int i = 0; i <= maxTableValue; ++i) {
+            offsets[i] = offset;
+            System.arraycopy(numerals[i], 0, packed, offset, numerals[i].length);
+            offset += numerals[i].length;
+        }
+        offsets[maxTableValue + 1] = offset;
+        return new AsciiFormatTable(packed, offsets);
+    }
+
+    /**
+     * Determines the number of bytes needed to write the given value.
+     *
+     * @param value The value. Must not be negative.
+     * @return The length of the numeral in bytes.
+     */
+    public int length(int value) {
+        if (value <= this.maxTableValue) {
+            return this.offsets[value + 1] - this.offsets[value];
+        }
+        final int remainder = value % THOUSAND;
+        return value / THOUSAND + length(remainder);
+    }
+
+    /**
+     * Writes the given value to the given array.
+     *
+     * @param value The value. Must not be negative.
+     * @param dest The array to write to.
+     * @param offset The index at which the first byte is written.
+     * @return The number of bytes written.
+     * @throws IndexOutOfBoundsException If the numeral does not fit into the array. In
+     *             this case nothing is written.
+     */
+    public int write(int value, byte[] dest, int offset) {
+        final int length = length(value);
+        if (offset < 0 || offset > dest.length - length) {
+            throw new IndexOutOfBoundsException(String.format(
+                    "Numeral of length %d does not fit into array of length %d at "
+                            + "offset %d",
+                    length, dest.length, offset));
+        }
+        int idx = offset;
+        int remainder = value;
+        if (value > this.maxTableValue) {
+            final int thousands = value / THOUSAND;
+            Arrays.fill(dest, idx, idx + thousands, M);
+            idx += thousands;
+            remainder = value % THOUSAND;
+        }
+        final int start = this.offsets[remainder];
+        System.arraycopy(this.packed, start, dest, idx, this.offsets[remainder + 1] - start);
+        return length;
+    }
+
+    /**
+     * Tests whether the given region of the given sequence is exactly the numeral of the
+     * given value as held by this table.
+     *
+     * @param value The value. Must not be negative.
+     * @param s The sequence to compare.
+     * @param from Index of the first character to compare.
+     * @param to Index after the last character to compare.
+     * @return Whether the region equals the numeral.
+     */
+    public boolean isNumeralOf(int value, CharSequence s, int from, int to) {
+        if (to - from != length(value)) {
+            return false;
+        }
+        int idx = from;
+        int remainder = value;
+        if (value > this.maxTableValue) {
+            final int thousands = value / THOUSAND;
+            for (int i = 0; i < thousands; ++i) {
+                if (s.charAt(idx++) != M) {
+                    return false;
+                }
+            }
+            remainder = value % THOUSAND;
+        }
+        final int end = this.offsets[remainder + 1];
+        for (int i = this.offsets[remainder]; i < end; ++i) {
+            if (s.charAt(idx++) != this.packed[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Appends the given value to the given Appendable.
+     *
+     * @param value The value. Must not be negative.
+     * @param out The Appendable to append to.
+     * @return The number of chars appended.
+     * @throws IOException If appending fails.
+     */
+    public int appendTo(int value, Appendable out) throws IOException {
+        int remainder = value;
+        if (value > this.maxTableValue) {
+            final int thousands = value / THOUSAND;
+            for (int i = 0; i < thousands; i += M_RUN.length()) {
+                out.append(M_RUN, 0, Math.min(M_RUN.length(), thousands - i));
+            }
+            remainder = value % THOUSAND;
+        }
+        final int end = this.offsets[remainder + 1];
+        for (int i = this.offsets[remainder]; i < end; ++i) {
+            out.append((char) this.packed[i]);
+        }
+        return length(value);
+    }
+
+    /**
+     * Writes the given value to the given char array. As all roman literals are ASCII
+     * characters, every byte of the table maps to exactly one char.
+     *
+     * @param value The value. Must not be negative.
+     * @param dest The array to write to.
+     * @param offset The index at which the first char is written.
+     * @return The number of chars written.
+     * @throws IndexOutOfBoundsException If the numeral does not fit into the array. In
+     *             this case nothing is written.
+     */
+    public int write(int value, char[] dest, int offset) {
+        final int length = length(value);
+        if (offset < 0 || offset > dest.length - length) {
+            throw new IndexOutOfBoundsException(String.format(
+                    "Numeral of length %d does not fit into array of length %d at "
+                            + "offset %d",
+                    length, dest.length, offset));
+        }
+        int idx = offset;
+        int remainder = value;
+        if (value > this.maxTableValue) {
+            final int thousands = value / THOUSAND;
+            Arrays.fill(dest, idx, idx + thousands, (char) M);
+            idx += thousands;
+            remainder = value % THOUSAND;
+        }
+        final int end = this.offsets[remainder + 1];
+        for (int i = this.offsets[remainder]; i < end; ++i) {
+            dest[idx++] = (char) this.packed[i];
+        }
+        return length;
+    }
+
+    /**
+     * Writes the given value to the given buffer, starting at its current position. The
+     * position is advanced by the number of bytes written.
+     *
+     * @param value The value. Must not be negative.
+     * @param dest The buffer to write to.
+     * @return The number of bytes written.
+     * @throws BufferOverflowException If the numeral does not fit into the buffer's
+     *             remaining space. In this case nothing is written.
+     */
+    public int write(int value, ByteBuffer dest) {
+        final int length = length(value);
+        if (dest.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+        int remainder = value;
+        if (value > this.maxTableValue) {
+            final int thousands = value / THOUSAND;
+            for (int i = 0; i < thousands; i += M_RUN_BYTES.length) {
+                dest.put(M_RUN_BYTES, 0, Math.min(M_RUN_BYTES.length, thousands - i));
+            }
+            remainder = value % THOUSAND;
+        }
+        final int start = this.offsets[remainder];
+        dest.put(this.packed, start, this.offsets[remainder + 1] - start);
+        return length;
+    }
+}
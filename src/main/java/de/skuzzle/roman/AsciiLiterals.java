@@ -0,0 +1,146 @@
+package de.skuzzle.roman;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Bulk validation of ASCII encoded numerals. Eight bytes are tested at once by treating
+ * them as a single {@code long} and checking every byte against all literal characters
+ * using carry free arithmetic (SWAR, <em>SIMD within a register</em>).
+ *
+ * <p>
+ * Setting bit {@code 0x20} of every byte folds upper case letters into lower case ones,
+ * so only the seven lower case letters need to be compared. No other byte can be folded
+ * into one of them. A byte is then tested for equality with a letter by testing whether
+ * their XOR is zero, which is done for all eight bytes at once without any carry
+ * crossing the byte boundaries.
+ * </p>
+ *
+ * <p>
+ * Byte arrays are first passed to {@link VectorLiterals}, which tests whole vectors at
+ * once on Java 17 and newer if the Vector API is available.
+ * </p>
+ *
+ * @author Simon Taddiken
+ */
+final class AsciiLiterals {
+
+    /** Returned if all bytes of a region are literal characters. */
+    public static final int ALL_VALID = -1;
+
+    private static final long LOW_BITS = 0x7F7F7F7F7F7F7F7FL;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final long CASE_BITS = 0x2020202020202020L;
+
+    private static final long I = broadcast('i');
+    private static final long V = broadcast('v');
+    private static final long X = broadcast('x');
+    private static final long L = broadcast('l');
+    private static final long C = broadcast('c');
+    private static final long D = broadcast('d');
+    private static final long M = broadcast('m');
+
+    private AsciiLiterals() {
+        // hidden
+    }
+
+    private static long broadcast(char c) {
+        return 0x0101010101010101L * c;
+    }
+
+    /**
+     * Sets the highest bit of every byte of the result for which the corresponding byte
+     * of {@code x} is zero. All other bits are cleared.
+     */
+    private static long zeroBytes(long x) {
+        return ~(((x & LOW_BITS) + LOW_BITS) | x | LOW_BITS);
+    }
+
+    /**
+     * Sets the highest bit of every byte of the result for which the corresponding byte
+     * of {@code word} is no roman literal character.
+     */
+    static long invalidBytes(long word) {
+        final long folded = word | CASE_BITS;
+        final long valid = zeroBytes(folded ^ I)
+                | zeroBytes(folded ^ V)
+                | zeroBytes(folded ^ X)
+                | zeroBytes(folded ^ L)
+                | zeroBytes(folded ^ C)
+                | zeroBytes(folded ^ D)
+                | zeroBytes(folded ^ M);
+        return ~valid & HIGH_BITS;
+    }
+
+    /**
+     * Determines the index of the first byte within the given region which is no roman
+     * literal character.
+     *
+     * @param b The bytes to test.
+     * @param from Index of the first byte to test.
+     * @param to Index after the last byte to test.
+     * @return The index of the first invalid byte or {@link #ALL_VALID}.
+     */
+    public static int indexOfNonLiteral(byte[] b, int from, int to) {
+        int i = VectorLiterals.skipValid(b, from, to);
+        for (; i <= to - Long.BYTES; i += Long.BYTES) {
+            final long invalid = invalidBytes(littleEndianLong(b, i));
+            if (invalid != 0) {
+                return i + (Long.numberOfTrailingZeros(invalid) >>> 3);
+            }
+        }
+        for (; i < to; ++i) {
+            if (LiteralAutomaton.charClass(b[i] & 0xFF) < 0) {
+                return i;
+            }
+        }
+        return ALL_VALID;
+    }
+
+    /**
+     * Determines the index of the first byte within the given region of the given buffer
+     * which is no roman literal character. The buffer is read using absolute indices.
+     *
+     * @param b The buffer to test.
+     * @param from Absolute index of the first byte to test.
+     * @param to Absolute index after the last byte to test.
+     * @return The index of the first invalid byte or {@link #ALL_VALID}.
+     */
+    public static int indexOfNonLiteral(ByteBuffer b, int from, int to) {
+        if (b.hasArray()) {
+            final int offset = b.arrayOffset();
+            final int result = indexOfNonLiteral(b.array(), offset + from, offset + to);
+            return result == ALL_VALID
+                    ? ALL_VALID
+                    : result - offset;
+        }
+        final boolean littleEndian = b.order() == ByteOrder.LITTLE_ENDIAN;
+        int i = from;
+        for (; i <= to - Long.BYTES; i += Long.BYTES) {
+            final long invalid = invalidBytes(b.getLong(i));
+            if (invalid != 0) {
+                final int bits = littleEndian
+                        ? Long.numberOfTrailingZeros(invalid)
+                        : Long.numberOfLeadingZeros(invalid);
+                return i + (bits >>> 3);
+            }
+        }
+        for (; i < to; ++i) {
+            if (LiteralAutomaton.charClass(b.get(i) & 0xFF) < 0) {
+                return i;
+            }
+        }
+        return ALL_VALID;
+    }
+
+    private static long littleEndianLong(byte[] b, int i) {
+        return (b[i] & 0xFFL)
+                | (b[i + 1] & 0xFFL) << 8
+                | (b[i + 2] & 0xFFL) << 16
+                | (b[i + 3] & 0xFFL) << 24
+                | (b[i + 4] & 0xFFL) << 32
+                | (b[i + 5] & 0xFFL) << 40
+                | (b[i + 6] & 0xFFL) << 48
+                | (b[i + 7] & 0xFFL) << 56;
+    }
+}
@@ -0,0 +1,156 @@
+package de.skuzzle.roman;
+
+import java.util.BitSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Implements parsing and formatting of whole arrays of values. The per element work is
+ * done by the compiled tables of a {@link RomanNumeralType} so there is no setup or
+ * allocation per element. Large arrays can optionally be split across the common
+ * {@link ForkJoinPool}.
+ *
+ * @author Simon Taddiken
+ */
+final class BatchConversion {
+
+    /**
+     * Number of elements below which a range is not split any further. Must be a
+     * multiple of 64 so that ranges never share a word of the failure bitmap.
+     */
+    static final int THRESHOLD = 64 * 128;
+
+    private BatchConversion() {
+        // hidden
+    }
+
+    public static BitSet parseAll(RomanNumeralType type, CharSequence[] in, int[] out,
+            boolean parallel) {
+        checkLengths(in.length, out.length);
+        final RomanLiteralStrategy strategy = type.getStrategy();
+        final long[] failures = new long[(in.length + 63) >>> 6];
+        run(in.length, parallel, (lo, hi) -> {
+            for (int i = lo; i < hi; ++i) {
+                final CharSequence s = in[i];
+                final long result = s == null
+                        ? PackedParseResult.failure(NumeralErrorKind.EMPTY_INPUT, 0)
+                        : strategy.parse(s, 0, s.length());
+                if (PackedParseResult.isSuccess(result)) {
+                    out[i] = PackedParseResult.getValue(result);
+                } else {
+                    out[i] = -1;
+                    failures[i >>> 6] |= 1L << i;
+                }
+            }
+        });
+        return BitSet.valueOf(failures);
+    }
+
+    public static int formatAll(RomanNumeralType type, int[] in, char delimiter,
+            char[] dest, int offset, boolean parallel) {
+        final AsciiFormatTable table = type.getAsciiFormatTable();
+        final int[] offsets = new int[in.length];
+        run(in.length, parallel, (lo, hi) -> {
+            for (int i = lo; i < hi; ++i) {
+                type.checkFormattable(in[i]);
+                offsets[i] = table.length(in[i]);
+            }
+        });
+
+        // turn lengths into absolute offsets, accounting for the delimiters
+        long position = offset;
+        for (int i = 0; i < offsets.length; ++i) {
+            final int length = offsets[i];
+            offsets[i] = (int) Math.min(position, Integer.MAX_VALUE);
+            position += length + 1;
+        }
+        final long end = offsets.length == 0
+                ? offset
+                : position - 1;
+        if (offset < 0 || end > dest.length) {
+            throw new IndexOutOfBoundsException(String.format(
+                    "Formatting %d values requires %d chars but array of length %d only "
+                            + "provides %d at offset %d",
+                    in.length, end - offset, dest.length, dest.length - offset,
+                    offset));
+        }
+
+        run(in.length, parallel, (lo, hi) -> {
+            for (int i = lo; i < hi; ++i) {
+                final int idx = offsets[i];
+                final int written = table.write(in[i], dest, idx);
+                if (i < offsets.length - 1) {
+                    dest[idx + written] = delimiter;
+                }
+            }
+        });
+        return (int) (end - offset);
+    }
+
+    public static StringBuilder formatAll(RomanNumeralType type, int[] in,
+            char delimiter, StringBuilder out, boolean parallel) {
+        final AsciiFormatTable table = type.getAsciiFormatTable();
+        long length = Math.max(0, in.length - 1);
+        for (final int value : in) {
+            type.checkFormattable(value);
+            length += table.length(value);
+        }
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(String.format(
+                    "Formatting %d values requires %d chars which exceeds the maximum "
+                            + "capacity of a StringBuilder",
+                    in.length, length));
+        }
+        final char[] buffer = new char[(int) length];
+        formatAll(type, in, delimiter, buffer, 0, parallel);
+        return out.append(buffer);
+    }
+
+    private static void checkLengths(int inLength, int outLength) {
+        if (outLength < inLength) {
+            throw new IllegalArgumentException(String.format(
+                    "Output array of length %d can not hold %d values",
+                    outLength, inLength));
+        }
+    }
+
+    private static void run(int length, boolean parallel, RangeAction action) {
+        if (parallel && length > THRESHOLD) {
+            ForkJoinPool.commonPool().invoke(new RangeTask(action, 0, length));
+        } else {
+            action.apply(0, length);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RangeAction {
+        void apply(int lo, int hi);
+    }
+
+    private static final class RangeTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 4476405361512397442L;
+
+        private final transient RangeAction action;
+        private final int lo;
+        private final int hi;
+
+        private RangeTask(RangeAction action, int lo, int hi) {
+            this.action = action;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.hi - this.lo <= THRESHOLD) {
+                this.action.apply(this.lo, this.hi);
+                return;
+            }
+            // split at a multiple of 64 so no two tasks share a word of a bitmap
+            final int mid = (this.lo + (this.hi - this.lo) / 2) & ~63;
+            invokeAll(new RangeTask(this.action, this.lo, mid),
+                    new RangeTask(this.action, mid, this.hi));
+        }
+    }
+}
@@ -0,0 +1,393 @@
+package de.skuzzle.roman;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Command line tool which converts a file of numerals, one per line, between roman
+ * numeral types or from and to decimal numbers.
+ *
+ * <pre>
+ * java -jar roman.jar &lt;source&gt; &lt;target&gt; &lt;input&gt; &lt;output&gt; [threads]
+ * </pre>
+ *
+ * <p>
+ * Source and target are either the name of a {@link RomanNumeralType} or
+ * {@code DECIMAL}. The input file is memory mapped and split at line boundaries into
+ * chunks which are converted in parallel. Each worker writes its result through a
+ * preallocated direct buffer into a temporary file. The temporary files are finally
+ * concatenated into the output file, so the output lines appear in the same order as
+ * the input lines. Lines which can not be converted are written as empty lines and are
+ * counted in the summary which is printed at the end.
+ * </p>
+ *
+ * @author Simon Taddiken
+ */
+public final class BulkConverter {
+
+    private static final String DECIMAL = "DECIMAL";
+    private static final int MAX_CHUNK_SIZE = 1 << 30;
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 20;
+    private static final int MAX_DECIMAL_LENGTH = 10;
+    private static final byte NEWLINE = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    private BulkConverter() {
+        // hidden
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 4 || args.length > 5) {
+            printUsage(System.err);
+            System.exit(1);
+            return;
+        }
+        final RomanNumeralType source;
+        final RomanNumeralType target;
+        final int threads;
+        try {
+            source = parseType(args[0]);
+            target = parseType(args[1]);
+            threads = args.length == 5
+                    ? Integer.parseInt(args[4])
+                    : Runtime.getRuntime().availableProcessors();
+            if (threads <= 0) {
+                throw new IllegalArgumentException("threads must be positive");
+            }
+        } catch (final IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            printUsage(System.err);
+            System.exit(1);
+            return;
+        }
+        final Summary summary = convert(source, target, Paths.get(args[2]),
+                Paths.get(args[3]), threads);
+        System.out.println(summary);
+    }
+
+    private static void printUsage(PrintStream out) {
+        out.println("Usage: java -jar roman.jar <source> <target> <input> <output> "
+                + "[threads]");
+        out.println("  <source>, <target>: DECIMAL, SINGLE_SUBTRACT, DOUBLE_SUBTRACT, "
+                + "ADDITIVE or LENIENT");
+    }
+
+    private static RomanNumeralType parseType(String name) {
+        final String upper = name.toUpperCase(Locale.ROOT);
+        if (DECIMAL.equals(upper)) {
+            return null;
+        }
+        try {
+            return RomanNumeralType.valueOf(upper);
+        } catch (final IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format(
+                    "Unknown numeral type: '%s'", name), e);
+        }
+    }
+
+    /**
+     * Converts the given input file line by line and writes the result to the given
+     * output file.
+     *
+     * @param source The type of the input numerals or null for decimal numbers.
+     * @param target The type of the output numerals or null for decimal numbers.
+     * @param input The input file.
+     * @param output The output file. Will be overridden if it exists.
+     * @param threads The number of threads to use.
+     * @return Statistics about the conversion.
+     * @throws IOException If reading or writing fails.
+     */
+    static Summary convert(RomanNumeralType source, RomanNumeralType target, Path input,
+            Path output, int threads) throws IOException {
+        final long start = System.nanoTime();
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final List<Path> parts = new ArrayList<>();
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ)) {
+            final long[] boundaries = split(in, threads);
+            final List<Future<Summary>> futures = new ArrayList<>();
+            for (int i = 0; i < boundaries.length - 1; ++i) {
+                final Path part = Files.createTempFile(output.toAbsolutePath().getParent(),
+                        "roman", ".part");
+                parts.add(part);
+                final ChunkConverter chunk = new ChunkConverter(source, target, in,
+                        boundaries[i], boundaries[i + 1], part);
+                futures.add(executor.submit(chunk::convert));
+            }
+
+            Summary summary = new Summary(0, 0, 0, 0, 0);
+            for (final Future<Summary> future : futures) {
+                summary = summary.plus(await(future));
+            }
+            concatenate(parts, output);
+            return summary.withNanos(System.nanoTime() - start);
+        } finally {
+            executor.shutdownNow();
+            for (final Path part : parts) {
+                Files.deleteIfExists(part);
+            }
+        }
+    }
+
+    private static Summary await(Future<Summary> future) throws IOException {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while converting", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Determines the chunk boundaries of the given file. Every boundary except the first
+     * one is placed directly behind a line break.
+     */
+    private static long[] split(FileChannel in, int threads) throws IOException {
+        final long size = in.size();
+        final long chunks = Math.max(threads, (size + MAX_CHUNK_SIZE - 1) / MAX_CHUNK_SIZE);
+        final List<Long> boundaries = new ArrayList<>();
+        boundaries.add(0L);
+        final ByteBuffer probe = ByteBuffer.allocate(8192);
+        for (long i = 1; i < chunks; ++i) {
+            final long previous = boundaries.get(boundaries.size() - 1);
+            final long boundary = nextLineStart(in, Math.max(previous, size * i / chunks),
+                    probe);
+            if (boundary > previous && boundary < size) {
+                boundaries.add(boundary);
+            }
+        }
+        boundaries.add(size);
+
+        final long[] result = new long[boundaries.size()];
+        for (int i = 0; i < result.length; ++i) {
+            result[i] = boundaries.get(i);
+            if (i > 0 && result[i] - result[i - 1] > Integer.MAX_VALUE) {
+                throw new IOException("Input contains a line which is too long");
+            }
+        }
+        return result;
+    }
+
+    private static long nextLineStart(FileChannel in, long from, ByteBuffer probe)
+            throws IOException {
+        long position = from;
+        while (true) {
+            probe.clear();
+            final int read = in.read(probe, position);
+            if (read <= 0) {
+                return in.size();
+            }
+            for (int i = 0; i < read; ++i) {
+                if (probe.get(i) == NEWLINE) {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+    }
+
+    private static void concatenate(List<Path> parts, Path output) throws IOException {
+        try (FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (final Path part : parts) {
+                try (FileChannel in = FileChannel.open(part, StandardOpenOption.READ)) {
+                    long position = 0;
+                    final long size = in.size();
+                    while (position < size) {
+                        position += in.transferTo(position, size - position, out);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Converts all lines of a single region of the input file.
+     */
+    private static final class ChunkConverter {
+
+        private final RomanNumeralType source;
+        private final RomanNumeralType target;
+        private final FileChannel in;
+        private final long start;
+        private final long end;
+        private final Path part;
+
+        private ChunkConverter(RomanNumeralType source, RomanNumeralType target,
+                FileChannel in, long start, long end, Path part) {
+            this.source = source;
+            this.target = target;
+            this.in = in;
+            this.start = start;
+            this.end = end;
+            this.part = part;
+        }
+
+        private Summary convert() throws IOException {
+            final int size = (int) (this.end - this.start);
+            final MappedByteBuffer input = this.in.map(MapMode.READ_ONLY, this.start,
+                    size);
+            final int maxOutputLength = this.target == null
+                    ? MAX_DECIMAL_LENGTH
+                    : this.target.maxFormattedLength();
+            final ByteBuffer output = ByteBuffer.allocateDirect(
+                    Math.max(OUTPUT_BUFFER_SIZE, maxOutputLength + 1));
+
+            long lines = 0;
+            long failures = 0;
+            long bytesOut = 0;
+            try (FileChannel out = FileChannel.open(this.part, StandardOpenOption.WRITE)) {
+                int lineStart = 0;
+                while (lineStart < size) {
+                    int lineEnd = lineStart;
+                    while (lineEnd < size && input.get(lineEnd) != NEWLINE) {
+                        ++lineEnd;
+                    }
+                    final int next = lineEnd + 1;
+                    if (lineEnd > lineStart && input.get(lineEnd - 1) == CARRIAGE_RETURN) {
+                        --lineEnd;
+                    }
+
+                    if (output.remaining() < maxOutputLength + 1) {
+                        bytesOut += flush(output, out);
+                    }
+                    if (!convertLine(input, lineStart, lineEnd, output)) {
+                        ++failures;
+                    }
+                    output.put(NEWLINE);
+                    ++lines;
+                    lineStart = next;
+                }
+                bytesOut += flush(output, out);
+            }
+            return new Summary(lines, failures, size, bytesOut, 0);
+        }
+
+        private boolean convertLine(ByteBuffer input, int from, int to,
+                ByteBuffer output) {
+            final long parsed = this.source == null
+                    ? parseDecimal(input, from, to)
+                    : this.source.parsePacked(input, from, to);
+            if (!PackedParseResult.isSuccess(parsed)) {
+                return false;
+            }
+            final int value = PackedParseResult.getValue(parsed);
+            if (this.target == null) {
+                formatDecimal(value, output);
+            } else if (value <= this.target.getMaxValue()) {
+                this.target.format(value, output);
+            } else {
+                return false;
+            }
+            return true;
+        }
+
+        private static long parseDecimal(ByteBuffer input, int from, int to) {
+            if (from >= to) {
+                return PackedParseResult.failure(NumeralErrorKind.EMPTY_INPUT, from);
+            } else if (to - from > MAX_DECIMAL_LENGTH) {
+                return PackedParseResult.failure(NumeralErrorKind.OVERFLOW, from);
+            }
+            long value = 0;
+            for (int i = from; i < to; ++i) {
+                final int digit = input.get(i) - '0';
+                if (digit < 0 || digit > 9) {
+                    return PackedParseResult.failure(NumeralErrorKind.UNKNOWN_LITERAL, i);
+                }
+                value = value * 10 + digit;
+            }
+            return value > Integer.MAX_VALUE
+                    ? PackedParseResult.failure(NumeralErrorKind.OVERFLOW, from)
+                    : PackedParseResult.success((int) value);
+        }
+
+        private static void formatDecimal(int value, ByteBuffer output) {
+            int divisor = 1;
+            while (divisor <= value / 10) {
+                divisor *= 10;
+            }
+            for (; divisor > 0; divisor /= 10) {
+                output.put((byte) ('0' + value / divisor % 10));
+            }
+        }
+
+        private static int flush(ByteBuffer output, FileChannel out) throws IOException {
+            output.flip();
+            final int written = output.remaining();
+            while (output.hasRemaining()) {
+                out.write(output);
+            }
+            output.clear();
+            return written;
+        }
+    }
+
+    /**
+     * Statistics about a conversion.
+     */
+    static final class Summary {
+
+        private final long lines;
+        private final long failures;
+        private final long bytesIn;
+        private final long bytesOut;
+        private final long nanos;
+
+        private Summary(long lines, long failures, long bytesIn, long bytesOut,
+                long nanos) {
+            this.lines = lines;
+            this.failures = failures;
+            this.bytesIn = bytesIn;
+            this.bytesOut = bytesOut;
+            this.nanos = nanos;
+        }
+
+        private Summary plus(Summary other) {
+            return new Summary(this.lines + other.lines, this.failures + other.failures,
+                    this.bytesIn + other.bytesIn, this.bytesOut + other.bytesOut,
+                    this.nanos);
+        }
+
+        private Summary withNanos(long nanos) {
+            return new Summary(this.lines, this.failures, this.bytesIn, this.bytesOut,
+                    nanos);
+        }
+
+        public long getLines() {
+            return this.lines;
+        }
+
+        public long getFailures() {
+            return this.failures;
+        }
+
+        @Override
+        public String toString() {
+            final double seconds = Math.max(this.nanos, 1) / 1e9;
+            return String.format(Locale.ROOT,
+                    "Converted %d lines (%d failed) in %.3f s: %d bytes in, %d bytes out, "
+                            + "%.0f lines/s, %.1f MB/s",
+                    this.lines, this.failures, seconds, this.bytesIn, this.bytesOut,
+                    this.lines / seconds, this.bytesIn / seconds / (1024 * 1024));
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package de.skuzzle.roman;
+
+import java.util.Set;
+
+/**
+ * Strategy with user defined literals and rules, created by
+ * {@link CustomNumeralType.Builder}.
+ *
+ * @author Simon Taddiken
+ */
+class CustomLiteralStrategy extends AbstractRomanLiteralStrategy {
+
+    private final Literal[] literals;
+    private final int[] maxSameConsecutive;
+    private final Set<String> legalPrefixes;
+    private final Set<String> illegalPrefixes;
+    private final int maxValue;
+
+    CustomLiteralStrategy(Literal[] literals, int[] maxSameConsecutive,
+            Set<String> legalPrefixes, Set<String> illegalPrefixes, int maxValue) {
+        this.literals = literals;
+        this.maxSameConsecutive = maxSameConsecutive;
+        this.legalPrefixes = legalPrefixes;
+        this.illegalPrefixes = illegalPrefixes;
+        this.maxValue = maxValue;
+    }
+
+    static String prefixKey(String prefix, String current) {
+        return prefix + " " + current;
+    }
+
+    @Override
+    public int getMaxValue() {
+        return this.maxValue;
+    }
+
+    @Override
+    public int getMaxSameConsecutive(Literal literal) {
+        for (int i = 0; i < this.literals.length; ++i) {
+            if (this.literals[i] == literal) {
+                return this.maxSameConsecutive[i];
+            }
+        }
+        throw new IllegalArgumentException(String.format(
+                "'%s' is not a literal of this strategy", literal));
+    }
+
+    @Override
+    public boolean isIllegalPrefix(Literal prefix, Literal current) {
+        final String key = prefixKey(prefix.toString(), current.toString());
+        if (this.illegalPrefixes.contains(key)) {
+            return true;
+        } else if (this.legalPrefixes.contains(key)) {
+            return false;
+        }
+        return super.isIllegalPrefix(prefix, current);
+    }
+
+    @Override
+    protected Literal[] getLiterals() {
+        return this.literals;
+    }
+}
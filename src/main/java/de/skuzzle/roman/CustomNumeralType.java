@@ -0,0 +1,412 @@
+package de.skuzzle.roman;
+
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A numeral type with user defined literals and rules. Instances are created using a
+ * {@link Builder} and are immutable. The parse and format tables are compiled when the
+ * type is built, so custom types perform like the built-in {@link RomanNumeralType
+ * RomanNumeralTypes}.
+ *
+ * <pre>
+ * final NumeralType clockFace = CustomNumeralType.builder()
+ *         .withName("CLOCK_FACE")
+ *         .withLiteral("X", 10, 3)
+ *         .withLiteral("IX", 9, 1)
+ *         .withLiteral("V", 5, 1)
+ *         .withLiteral("I", 1, 4)
+ *         .withMaxValue(12)
+ *         .build();
+ *
+ * clockFace.format(4); // IIII
+ * </pre>
+ *
+ * <p>
+ * Literals must be composed of the characters {@code I, V, X, L, C, D} and {@code M}.
+ * By default, a literal may only be followed by literals with equal or smaller value.
+ * This can be adjusted per pair of literals using {@link Builder#allowPrefix(String,
+ * String)} and {@link Builder#forbidPrefix(String, String)}.
+ * </p>
+ *
+ * @author Simon Taddiken
+ */
+public final class CustomNumeralType implements NumeralType {
+
+    private static final AtomicInteger IDS = new AtomicInteger();
+
+    private final int id;
+    private final String name;
+    private final RomanLiteralStrategy strategy;
+    private final LiteralAutomaton automaton;
+    private final DigitFormatTable formatTable;
+
+    private CustomNumeralType(String name, RomanLiteralStrategy strategy) {
+        this.id = IDS.incrementAndGet();
+        this.name = name;
+        this.strategy = strategy;
+        this.automaton = strategy.getAutomaton();
+        this.formatTable = strategy.getFormatTable();
+    }
+
+    /**
+     * Creates a new builder for defining a custom numeral type.
+     *
+     * @return The builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a number which identifies this instance among all custom types, as the
+     * name does not need to be unique.
+     *
+     * @return The id.
+     */
+    int getId() {
+        return this.id;
+    }
+
+    RomanLiteralStrategy getStrategy() {
+        return this.strategy;
+    }
+
+    @Override
+    public int getMaxValue() {
+        return this.strategy.getMaxValue();
+    }
+
+    @Override
+    public NumberFormat getNumberFormat() {
+        return RomanNumberFormat.getInstance(this, this.strategy);
+    }
+
+    @Override
+    public int parse(String s) {
+        final long result = parsePacked(s);
+        if (!PackedParseResult.isSuccess(result)) {
+            throw RomanNumeralException.parseFailure(this, s, result);
+        }
+        return PackedParseResult.getValue(result);
+    }
+
+    @Override
+    public OptionalInt tryParse(String s) {
+        final long result = parsePacked(s);
+        return PackedParseResult.isSuccess(result)
+                ? OptionalInt.of(PackedParseResult.getValue(result))
+                : OptionalInt.empty();
+    }
+
+    private long parsePacked(String s) {
+        if (s == null) {
+            throw new IllegalArgumentException(
+                    "Can not parse null value as roman numeral");
+        }
+        return this.automaton.parse(s, 0, s.length());
+    }
+
+    @Override
+    public long parsePacked(CharSequence s, int from, int to) {
+        if (s == null) {
+            throw new IllegalArgumentException(
+                    "Can not parse null value as roman numeral");
+        }
+        RomanNumeralType.checkRegion(from, to, s.length());
+        return this.automaton.parse(s, from, to);
+    }
+
+    @Override
+    public boolean isValid(CharSequence s) {
+        if (s == null) {
+            throw new IllegalArgumentException(
+                    "Can not parse null value as roman numeral");
+        }
+        return this.automaton.isValid(s, 0, s.length());
+    }
+
+    @Override
+    public IncrementalNumeralParser newIncrementalParser() {
+        return new IncrementalNumeralParser(this, this.automaton);
+    }
+
+    @Override
+    public String format(int value) {
+        checkFormattable(value);
+        return new String(this.formatTable.toChars(value));
+    }
+
+    @Override
+    public String format(int value, NumeralStyle style) {
+        if (style == null) {
+            throw new IllegalArgumentException("style is null");
+        }
+        checkFormattable(value);
+        return new String(this.strategy.getFormatTable(style).toChars(value));
+    }
+
+    @Override
+    public int formattedLength(int value) {
+        checkFormattable(value);
+        return this.formatTable.length(value);
+    }
+
+    private void checkFormattable(int value) {
+        if (value < 0) {
+            throw RomanNumeralException.formatFailure(NumeralErrorKind.NEGATIVE_VALUE,
+                    this, value);
+        }
+        RomanNumberFormat.checkDisplayable(value, this);
+    }
+
+    @Override
+    public String toString() {
+        return this.name;
+    }
+
+    /**
+     * Collects the literals and rules of a {@link CustomNumeralType}.
+     *
+     * @author Simon Taddiken
+     */
+    public static final class Builder {
+
+        private final List<Literal> literals = new ArrayList<>();
+        private final Map<Literal, Integer> maxSameConsecutive = new HashMap<>();
+        private final Set<String> legalPrefixes = new HashSet<>();
+        private final Set<String> illegalPrefixes = new HashSet<>();
+        private String name = "CUSTOM";
+        private int maxValue = Settings.ARTIFICIAL_MAX_VALUE;
+
+        private Builder() {
+            // hidden
+        }
+
+        /**
+         * Sets the name which is returned by the type's {@code toString()} method and
+         * used in error messages.
+         *
+         * @param name The name.
+         * @return This builder.
+         */
+        public Builder withName(String name) {
+            if (name == null) {
+                throw new IllegalArgumentException("name is null");
+            }
+            this.name = name;
+            return this;
+        }
+
+        /**
+         * Adds a literal which may occur consecutively an arbitrary number of times.
+         *
+         * @param symbol The characters of the literal.
+         * @param value The value of the literal.
+         * @return This builder.
+         * @throws IllegalArgumentException If the symbol or value is already defined or
+         *             the value is not positive.
+         */
+        public Builder withLiteral(String symbol, int value) {
+            return withLiteral(symbol, value, Integer.MAX_VALUE);
+        }
+
+        /**
+         * Adds a literal which may occur consecutively at most {@code maxConsecutive}
+         * times.
+         *
+         * @param symbol The characters of the literal.
+         * @param value The value of the literal.
+         * @param maxConsecutive The maximum number of consecutive occurrences.
+         * @return This builder.
+         * @throws IllegalArgumentException If the symbol or value is already defined or
+         *             the value or the maximum number of occurrences is not positive.
+         */
+        public Builder withLiteral(String symbol, int value, int maxConsecutive) {
+            if (symbol == null || symbol.isEmpty()) {
+                throw new IllegalArgumentException("symbol is null or empty");
+            } else if (value <= 0) {
+                throw new IllegalArgumentException(String.format(
+                        "Value of literal '%s' must be positive but was %d",
+                        symbol, value));
+            } else if (maxConsecutive <= 0) {
+                throw new IllegalArgumentException(String.format(
+                        "Consecutive occurrences of literal '%s' must be positive but "
+                                + "was %d",
+                        symbol, maxConsecutive));
+            }
+            for (final Literal literal : this.literals) {
+                if (literal.toString().equals(symbol) || literal.intValue() == value) {
+                    throw new IllegalArgumentException(String.format(
+                            "Literal '%s' with value %d conflicts with literal '%s'",
+                            symbol, value, literal));
+                }
+            }
+            final Literal literal = Literal.define(symbol, value);
+            this.literals.add(literal);
+            this.maxSameConsecutive.put(literal, maxConsecutive);
+            return this;
+        }
+
+        /**
+         * Allows the literal {@code prefix} to be directly followed by the literal
+         * {@code current} even though it has a smaller value.
+         *
+         * @param prefix The symbol of the preceding literal.
+         * @param current The symbol of the following literal.
+         * @return This builder.
+         */
+        public Builder allowPrefix(String prefix, String current) {
+            final String key = CustomLiteralStrategy.prefixKey(prefix, current);
+            this.illegalPrefixes.remove(key);
+            this.legalPrefixes.add(key);
+            return this;
+        }
+
+        /**
+         * Forbids the literal {@code prefix} to be directly followed by the literal
+         * {@code current}.
+         *
+         * @param prefix The symbol of the preceding literal.
+         * @param current The symbol of the following literal.
+         * @return This builder.
+         */
+        public Builder forbidPrefix(String prefix, String current) {
+            final String key = CustomLiteralStrategy.prefixKey(prefix, current);
+            this.legalPrefixes.remove(key);
+            this.illegalPrefixes.add(key);
+            return this;
+        }
+
+        /**
+         * Sets the maximum value which can be formatted. Defaults to {@code 10000}.
+         *
+         * @param maxValue The maximum value.
+         * @return This builder.
+         */
+        public Builder withMaxValue(int maxValue) {
+            if (maxValue < 0) {
+                throw new IllegalArgumentException(String.format(
+                        "Maximum value must not be negative but was %d", maxValue));
+            }
+            this.maxValue = maxValue;
+            return this;
+        }
+
+        /**
+         * Compiles the collected literals and rules into a new immutable type.
+         *
+         * @return The type.
+         * @throws IllegalArgumentException If no literal with value {@code 1} has been
+         *             defined, if any literal contains a character other than
+         *             {@code I, V, X, L, C, D} or {@code M} or if a value up to the
+         *             maximum value would be formatted as a numeral which violates the
+         *             type's own rules about consecutive and prefixed literals.
+         */
+        public CustomNumeralType build() {
+            final List<Literal> sorted = new ArrayList<>(this.literals);
+            Collections.sort(sorted,
+                    Comparator.comparingInt(Literal::intValue).reversed());
+            if (sorted.isEmpty() || sorted.get(sorted.size() - 1).intValue() != 1) {
+                throw new IllegalArgumentException(
+                        "A literal with value 1 is required to format every value");
+            }
+            final Literal[] literals = sorted.toArray(new Literal[sorted.size()]);
+            final int[] maxSameConsecutive = new int[literals.length];
+            for (int i = 0; i < literals.length; ++i) {
+                maxSameConsecutive[i] = this.maxSameConsecutive.get(literals[i]);
+            }
+            final CustomLiteralStrategy strategy = new CustomLiteralStrategy(literals,
+                    maxSameConsecutive, new HashSet<>(this.legalPrefixes),
+                    new HashSet<>(this.illegalPrefixes), this.maxValue);
+            final long violating = firstViolatingValue(strategy, this.maxValue);
+            if (violating >= 0) {
+                throw new IllegalArgumentException(String.format(
+                        "The value %d would be formatted as a numeral which violates "
+                                + "the type's rules about consecutive and prefixed "
+                                + "literals",
+                        violating));
+            }
+            return new CustomNumeralType(this.name, strategy);
+        }
+
+        /**
+         * Determines the smallest value whose greedily formatted numeral violates the
+         * strategy's rules. A value is formatted as a run of the biggest literal followed
+         * by the numeral of the remainder below that literal's value. As the rules are
+         * only harder to satisfy with a longer run, it suffices to check every remainder
+         * on its own and with the longest run that it can be combined with.
+         *
+         * @return The smallest violating value or {@code -1} if all values up to the
+         *         maximum value can be formatted.
+         */
+        private static long firstViolatingValue(RomanLiteralStrategy strategy,
+                int maxValue) {
+            final Literal top = strategy.findNext(Long.MAX_VALUE);
+            final int topValue = top.intValue();
+            long result = -1;
+            for (int r = 0; r < topValue && r <= maxValue; ++r) {
+                final List<Literal> remainder = greedy(strategy, r);
+                if (!respectsRules(strategy, remainder)) {
+                    return r;
+                }
+                final long maxRun = (maxValue - r) / topValue;
+                final long violatingRun;
+                if (maxRun > strategy.getMaxSameConsecutive(top)) {
+                    violatingRun = strategy.getMaxSameConsecutive(top) + 1L;
+                } else if (maxRun > 1 && strategy.isIllegalPrefix(top, top)) {
+                    violatingRun = 2;
+                } else if (maxRun > 0 && !remainder.isEmpty()
+                        && strategy.isIllegalPrefix(top, remainder.get(0))) {
+                    violatingRun = 1;
+                } else {
+                    continue;
+                }
+                final long value = violatingRun * topValue + r;
+                if (result < 0 || value < result) {
+                    result = value;
+                }
+            }
+            return result;
+        }
+
+        private static List<Literal> greedy(RomanLiteralStrategy strategy, int value) {
+            final List<Literal> result = new ArrayList<>();
+            int val = value;
+            while (val != 0) {
+                final Literal lit = strategy.findNext(val);
+                result.add(lit);
+                val -= lit.intValue();
+            }
+            return result;
+        }
+
+        private static boolean respectsRules(RomanLiteralStrategy strategy,
+                List<Literal> literals) {
+            int consecutives = 1;
+            for (int i = 1; i < literals.size(); ++i) {
+                final Literal last = literals.get(i - 1);
+                final Literal current = literals.get(i);
+                if (strategy.isIllegalPrefix(last, current)) {
+                    return false;
+                }
+                consecutives = last == current
+                        ? consecutives + 1
+                        : 1;
+                if (consecutives > strategy.getMaxSameConsecutive(current)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
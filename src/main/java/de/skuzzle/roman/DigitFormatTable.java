@@ -0,0 +1,238 @@
+package de.skuzzle.roman;
+
+import java.util.Arrays;
+
+/**
+ * Precomputed format tables of a {@link RomanLiteralStrategy}. A value is decomposed into
+ * a run of the strategy's biggest literal (usually {@code M}) and a remainder below that
+ * literal's value. If the strategy's literals are aligned to decimal digits, the
+ * remainder is further decomposed into its hundreds, tens and units digit, each of which
+ * is looked up in a table of ten entries. Otherwise the remainder is looked up as a
+ * whole.
+ *
+ * <p>
+ * As all table entries are known, the exact length of a value's numeral can be computed
+ * before writing it, so numerals can be written into correctly sized arrays in a single
+ * pass.
+ * </p>
+ *
+ * @author Simon Taddiken
+ */
+final class DigitFormatTable {
+
+    private static final char[] EMPTY = new char[0];
+
+    private final char[] top;
+    private final int topValue;
+
+    /** tables[level][digit], levels ordered from most to least significant. */
+    private final char[][][] tables;
+    private final int radix;
+    private final int[] divisors;
+    private final int maxLength;
+
+    private DigitFormatTable(char[] top, int topValue, char[][][] tables, int radix,
+            int[] divisors, int maxValue) {
+        this.top = top;
+        this.topValue = topValue;
+        this.tables = tables;
+        this.radix = radix;
+        this.divisors = divisors;
+        this.maxLength = computeMaxLength(maxValue);
+    }
+
+    private DigitFormatTable(DigitFormatTable source, NumeralStyle style) {
+        this.top = style.map(source.top);
+        this.topValue = source.topValue;
+        this.tables = new char[source.tables.length][][];
+        for (int level = 0; level < this.tables.length; ++level) {
+            this.tables[level] = new char[source.tables[level].length][];
+            for (int digit = 0; digit < this.tables[level].length; ++digit) {
+                this.tables[level][digit] = style.map(source.tables[level][digit]);
+            }
+        }
+        this.radix = source.radix;
+        this.divisors = source.divisors;
+        this.maxLength = source.maxLength;
+    }
+
+    /**
+     * Creates a copy of this table which writes the characters of the given style.
+     *
+     * @param style The style.
+     * @return The table for the given style.
+     */
+    public DigitFormatTable withStyle(NumeralStyle style) {
+        return new DigitFormatTable(this, style);
+    }
+
+    /**
+     * Compiles the format tables for the given strategy by applying its greedy format
+     * algorithm to every value below the strategy's biggest literal.
+     *
+     * @param strategy The strategy.
+     * @return The compiled tables.
+     */
+    public static DigitFormatTable compile(RomanLiteralStrategy strategy) {
+        final Literal topLiteral = strategy.findNext(Long.MAX_VALUE);
+        final int topValue = topLiteral.intValue();
+        final char[][] remainders = new char[topValue][];
+        for (int i = 0; i < topValue; ++i) {
+            remainders[i] = greedy(strategy, i);
+        }
+        final char[] top = topLiteral.toString().toCharArray();
+
+        final int levels = decimalLevels(remainders);
+        if (levels < 0) {
+            return new DigitFormatTable(top, topValue, new char[][][] { remainders },
+                    topValue, new int[] { 1 }, strategy.getMaxValue());
+        }
+
+        final char[][][] tables = new char[levels][10][];
+        final int[] divisors = new int[levels];
+        int divisor = topValue;
+        for (int level = 0; level < levels; ++level) {
+            divisor /= 10;
+            divisors[level] = divisor;
+            for (int digit = 0; digit < 10; ++digit) {
+                tables[level][digit] = remainders[digit * divisor];
+            }
+        }
+        return new DigitFormatTable(top, topValue, tables, 10, divisors,
+                strategy.getMaxValue());
+    }
+
+    private static char[] greedy(RomanLiteralStrategy strategy, long value) {
+        final StringBuffer b = new StringBuffer();
+        long val = value;
+        while (val != 0) {
+            final Literal lit = strategy.findNext(val);
+            lit.appendTo(b);
+            val = val - lit.intValue();
+        }
+        return b.length() == 0
+                ? EMPTY
+                : b.toString().toCharArray();
+    }
+
+    /**
+     * Determines whether every remainder's numeral is the concatenation of the numerals
+     * of its decimal digits.
+     *
+     * @return The number of decimal digits of the remainders or {@code -1} if they can
+     *         not be decomposed.
+     */
+    private static int decimalLevels(char[][] remainders) {
+        int levels = 0;
+        for (int i = remainders.length; i > 1; i /= 10) {
+            if (i % 10 != 0) {
+                return -1;
+            }
+            ++levels;
+        }
+        for (int value = 0; value < remainders.length; ++value) {
+            final StringBuilder composed = new StringBuilder();
+            for (int divisor = remainders.length / 10; divisor > 0; divisor /= 10) {
+                composed.append(remainders[value / divisor % 10 * divisor]);
+            }
+            if (!Arrays.equals(composed.toString().toCharArray(), remainders[value])) {
+                return -1;
+            }
+        }
+        return levels;
+    }
+
+    private int computeMaxLength(int maxValue) {
+        final int quotient = maxValue / this.topValue;
+        int maxRemainderLength = 0;
+        int maxLengthOfLastRemainder = 0;
+        for (int r = 0; r < this.topValue; ++r) {
+            final int length = remainderLength(r);
+            maxRemainderLength = Math.max(maxRemainderLength, length);
+            if (r <= maxValue % this.topValue) {
+                maxLengthOfLastRemainder = Math.max(maxLengthOfLastRemainder, length);
+            }
+        }
+        int result = quotient * this.top.length + maxLengthOfLastRemainder;
+        if (quotient > 0) {
+            result = Math.max(result,
+                    (quotient - 1) * this.top.length + maxRemainderLength);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the length of the longest numeral of all values between {@code 0} and the
+     * strategy's maximum value.
+     *
+     * @return The maximum length.
+     */
+    public int maxLength() {
+        return this.maxLength;
+    }
+
+    /**
+     * Computes the exact length of the given value's numeral.
+     *
+     * @param value The value. Must not be negative.
+     * @return The length.
+     */
+    public int length(int value) {
+        return value / this.topValue * this.top.length
+                + remainderLength(value % this.topValue);
+    }
+
+    private int remainderLength(int remainder) {
+        int length = 0;
+        for (int level = 0; level < this.divisors.length; ++level) {
+            final int digit = remainder / this.divisors[level] % this.radix;
+            length += this.tables[level][digit].length;
+        }
+        return length;
+    }
+
+    /**
+     * Writes the numeral of the given value into the given array, which must have enough
+     * space to hold {@link #length(int)} chars at the given offset.
+     *
+     * @param value The value. Must not be negative.
+     * @param dest The array to write to.
+     * @param offset The index of the first char to write.
+     * @return The number of chars written.
+     */
+    public int write(int value, char[] dest, int offset) {
+        int idx = offset;
+        final int runs = value / this.topValue;
+        if (this.top.length == 1) {
+            Arrays.fill(dest, idx, idx + runs, this.top[0]);
+            idx += runs;
+        } else {
+            for (int i = 0; i < runs; ++i) {
+                System.arraycopy(this.top, 0, dest, idx, this.top.length);
+                idx += this.top.length;
+            }
+        }
+
+        final int remainder = value % this.topValue;
+        for (int level = 0; level < this.divisors.length; ++level) {
+            final int digit = remainder / this.divisors[level] % this.radix;
+            final char[] chars = this.tables[level][digit];
+            System.arraycopy(chars, 0, dest, idx, chars.length);
+            idx += chars.length;
+        }
+        return idx - offset;
+    }
+
+    /**
+     * Creates a new array of exactly the right size holding the numeral of the given
+     * value.
+     *
+     * @param value The value. Must not be negative.
+     * @return The numeral.
+     */
+    public char[] toChars(int value) {
+        final char[] result = new char[length(value)];
+        write(value, result, 0);
+        return result;
+    }
+}
@@ -49,6 +49,11 @@ class DoubleSubtractionStrategy extends AbstractRomanLiteralStrategy {
         }
     }
 
+    @Override
+    protected boolean isPerfectHashEnabled() {
+        return true;
+    }
+
     @Override
     protected Literal[] getLiterals() {
         return LITERALS;
@@ -0,0 +1,111 @@
+package de.skuzzle.roman;
+
+/**
+ * Holds the precomputed roman numeral String for every value from {@code 1} up to a
+ * certain limit for a single {@link RomanNumeralType} and {@link NumeralStyle}. The table
+ * is built completely upon first access and is shared between all callers afterwards.
+ *
+ * @author Simon Taddiken
+ */
+final class FormatCache {
+
+    private final RomanNumeralType type;
+    private final NumeralStyle style;
+    private final int maxValue;
+    private volatile String[] table;
+
+    private FormatCache(RomanNumeralType type, NumeralStyle style, int maxValue) {
+        this.type = type;
+        this.style = style;
+        this.maxValue = maxValue;
+    }
+
+    /**
+     * Creates a cache for the given type which respects the global settings. If the
+     * cache is disabled by {@link Settings#FORMAT_CACHE_ENABLED}, the resulting cache
+     * will not hold any values.
+     *
+     * @param type The type to create the cache for.
+     * @return The cache.
+     */
+    public static FormatCache forType(RomanNumeralType type) {
+        final int maxValue = Settings.FORMAT_CACHE_ENABLED
+                ? Settings.FORMAT_CACHE_MAX_VALUE
+                : 0;
+        return withMaxValue(type, maxValue);
+    }
+
+    /**
+     * Creates a cache for the given type which holds Strings for all values up to the
+     * given value or up to the type's maximum value, whichever is smaller.
+     *
+     * @param type The type to create the cache for.
+     * @param maxValue The highest value to cache.
+     * @return The cache.
+     */
+    static FormatCache withMaxValue(RomanNumeralType type, int maxValue) {
+        return withMaxValue(type, NumeralStyle.UPPER_CASE, maxValue);
+    }
+
+    /**
+     * Creates a cache for the given type and style which holds Strings for all values up
+     * to the given value or up to the type's maximum value, whichever is smaller.
+     *
+     * @param type The type to create the cache for.
+     * @param style The style of the cached numerals.
+     * @param maxValue The highest value to cache.
+     * @return The cache.
+     */
+    static FormatCache withMaxValue(RomanNumeralType type, NumeralStyle style,
+            int maxValue) {
+        return new FormatCache(type, style,
+                Math.max(0, Math.min(maxValue, type.getMaxValue())));
+    }
+
+    /**
+     * Returns the highest value for which this cache holds a String.
+     *
+     * @return The highest cached value. {@code 0} if nothing is cached.
+     */
+    public int getMaxValue() {
+        return this.maxValue;
+    }
+
+    /**
+     * Returns the cached String for the given value.
+     *
+     * @param value The value to look up.
+     * @return The formatted value or <code>null</code> if the value is not covered by
+     *         this cache.
+     */
+    public String get(int value) {
+        if (value < 1 || value > this.maxValue) {
+            return null;
+        }
+        return getTable()[value];
+    }
+
+    private String[] getTable() {
+        String[] result = this.table;
+        if (result == null) {
+            synchronized (this) {
+                result = this.table;
+                if (result == null) {
+                    result = buildTable();
+                    this.table = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private String[] buildTable() {
+        final DigitFormatTable format = this.type.getStrategy()
+                .getFormatTable(this.style);
+        final String[] result = new String[this.maxValue + 1];
+        for (int i = 1; i < result.length; ++i) {
+            result[i] = new String(format.toChars(i));
+        }
+        return result;
+    }
+}
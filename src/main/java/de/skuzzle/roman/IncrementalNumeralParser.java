@@ -0,0 +1,266 @@
+package de.skuzzle.roman;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+
+/**
+ * Parses a single numeral which arrives in arbitrary slices, like a field of a network
+ * protocol which is split across packets. Input is pushed using one of the
+ * {@code accept} methods and the result is obtained once the caller signals the end of
+ * the numeral by calling {@link #finish()} or {@link #finishPacked()}. The result is
+ * exactly the result of parsing the concatenated input at once, including the kind and
+ * index of an error.
+ *
+ * <pre>
+ * final IncrementalNumeralParser parser = RomanNumeralType.SINGLE_SUBTRACT
+ *         .newIncrementalParser();
+ * parser.accept("MCM", 0, 3);
+ * parser.accept("XCIV", 0, 4);
+ * parser.finish(); // 1994
+ * parser.reset();
+ * </pre>
+ *
+ * <p>
+ * Between calls, the parser carries the running sum, the last literal and how often it
+ * has been repeated. Only the characters which might still be part of a longer literal
+ * are buffered, so memory consumption does not depend on the length of the input.
+ * Instances are meant to be reused using {@link #reset()}, which makes parsing free of
+ * allocations. Instances are not thread-safe.
+ * </p>
+ *
+ * @author Simon Taddiken
+ * @see NumeralType#newIncrementalParser()
+ */
+public final class IncrementalNumeralParser {
+
+    private static final long NO_FAILURE = 0L;
+
+    private final NumeralType type;
+    private final LiteralAutomaton automaton;
+
+    /** Characters which have been accepted but not yet been matched to a literal. */
+    private final char[] pending;
+    private final CharBuffer pendingView;
+    private int pendingCount;
+    /** Index of the first pending character within the whole input. */
+    private int position;
+
+    private long sum;
+    private int last;
+    private int lastIdx;
+    private int consecutives;
+    private long failure;
+
+    IncrementalNumeralParser(NumeralType type, LiteralAutomaton automaton) {
+        this.type = type;
+        this.automaton = automaton;
+        this.pending = new char[automaton.getMaxLiteralLength()];
+        this.pendingView = CharBuffer.wrap(this.pending);
+        reset();
+    }
+
+    /**
+     * Returns the type whose rules are applied by this parser.
+     *
+     * @return The type.
+     */
+    public NumeralType getType() {
+        return this.type;
+    }
+
+    /**
+     * Discards all input so that this instance can be used to parse the next numeral.
+     */
+    public void reset() {
+        this.pendingCount = 0;
+        this.position = 0;
+        this.sum = 0;
+        this.last = LiteralAutomaton.NO_MATCH;
+        this.lastIdx = -1;
+        this.consecutives = 0;
+        this.failure = NO_FAILURE;
+    }
+
+    /**
+     * Whether an error has been detected in the input accepted so far. Once this is the
+     * case, further input is ignored.
+     *
+     * @return Whether an error has been detected.
+     */
+    public boolean isFailed() {
+        return this.failure != NO_FAILURE;
+    }
+
+    /**
+     * Accepts the given region of the given sequence as the next slice of the numeral.
+     *
+     * @param s The sequence.
+     * @param from Index of the first character to accept.
+     * @param to Index after the last character to accept.
+     * @return {@code false} if an error has been detected in the input so far, in which
+     *         case the remaining input can be skipped.
+     */
+    public boolean accept(CharSequence s, int from, int to) {
+        for (int i = from; i < to && this.failure == NO_FAILURE; ++i) {
+            push(s.charAt(i));
+        }
+        return this.failure == NO_FAILURE;
+    }
+
+    /**
+     * Accepts the given region of the given array as the next slice of the numeral.
+     *
+     * @param c The characters.
+     * @param from Index of the first character to accept.
+     * @param to Index after the last character to accept.
+     * @return {@code false} if an error has been detected in the input so far, in which
+     *         case the remaining input can be skipped.
+     */
+    public boolean accept(char[] c, int from, int to) {
+        for (int i = from; i < to && this.failure == NO_FAILURE; ++i) {
+            push(c[i]);
+        }
+        return this.failure == NO_FAILURE;
+    }
+
+    /**
+     * Accepts the given region of the given array of ASCII encoded characters as the
+     * next slice of the numeral.
+     *
+     * @param b The bytes.
+     * @param from Index of the first byte to accept.
+     * @param to Index after the last byte to accept.
+     * @return {@code false} if an error has been detected in the input so far, in which
+     *         case the remaining input can be skipped.
+     */
+    public boolean accept(byte[] b, int from, int to) {
+        for (int i = from; i < to && this.failure == NO_FAILURE; ++i) {
+            push((char) (b[i] & 0xFF));
+        }
+        return this.failure == NO_FAILURE;
+    }
+
+    /**
+     * Accepts the remaining ASCII encoded characters of the given buffer as the next
+     * slice of the numeral. The buffer's position is advanced to its limit.
+     *
+     * @param b The buffer.
+     * @return {@code false} if an error has been detected in the input so far, in which
+     *         case the remaining input can be skipped.
+     */
+    public boolean accept(ByteBuffer b) {
+        final int to = b.limit();
+        for (int i = b.position(); i < to && this.failure == NO_FAILURE; ++i) {
+            push((char) (b.get(i) & 0xFF));
+        }
+        b.position(to);
+        return this.failure == NO_FAILURE;
+    }
+
+    private void push(char c) {
+        this.pending[this.pendingCount++] = c;
+        if (this.pendingCount == this.pending.length) {
+            // no literal is longer than the buffer, so the literal at its start is
+            // determined regardless of the input which follows
+            consume();
+        }
+    }
+
+    /**
+     * Matches the literal at the start of the pending characters and applies the
+     * type's rules to it, exactly like {@link LiteralAutomaton#parse(CharSequence, int,
+     * int)} does.
+     */
+    private void consume() {
+        final int idx = this.position;
+        final int lit = this.automaton.literalAt(this.pendingView, 0, this.pendingCount);
+        if (lit == LiteralAutomaton.NO_MATCH) {
+            final int[] compound = this.automaton.compoundAt(this.pending[0]);
+            if (compound == null) {
+                fail(NumeralErrorKind.UNKNOWN_LITERAL, idx);
+                return;
+            }
+            for (final int part : compound) {
+                this.consecutives = this.automaton.nextConsecutives(this.last, part,
+                        this.consecutives);
+                if (this.consecutives == LiteralAutomaton.ILLEGAL_PREFIX) {
+                    fail(NumeralErrorKind.ILLEGAL_PREFIX, idx);
+                    return;
+                } else if (this.consecutives == LiteralAutomaton.TOO_MANY_CONSECUTIVE) {
+                    fail(NumeralErrorKind.TOO_MANY_CONSECUTIVE, idx);
+                    return;
+                }
+                this.sum += this.automaton.valueOf(part);
+                this.last = part;
+            }
+            if (this.sum > Integer.MAX_VALUE) {
+                fail(NumeralErrorKind.OVERFLOW, idx);
+                return;
+            }
+            this.lastIdx = idx;
+            shift(1);
+            return;
+        }
+        this.consecutives = this.automaton.nextConsecutives(this.last, lit,
+                this.consecutives);
+        if (this.consecutives == LiteralAutomaton.ILLEGAL_PREFIX) {
+            fail(NumeralErrorKind.ILLEGAL_PREFIX, this.lastIdx);
+            return;
+        } else if (this.consecutives == LiteralAutomaton.TOO_MANY_CONSECUTIVE) {
+            fail(NumeralErrorKind.TOO_MANY_CONSECUTIVE, idx);
+            return;
+        }
+        this.sum += this.automaton.valueOf(lit);
+        if (this.sum > Integer.MAX_VALUE) {
+            fail(NumeralErrorKind.OVERFLOW, idx);
+            return;
+        }
+        this.last = lit;
+        this.lastIdx = idx;
+        shift(this.automaton.lengthOf(lit));
+    }
+
+    private void shift(int length) {
+        this.pendingCount -= length;
+        System.arraycopy(this.pending, length, this.pending, 0, this.pendingCount);
+        this.position += length;
+    }
+
+    private void fail(NumeralErrorKind kind, int errorIndex) {
+        this.failure = PackedParseResult.failure(kind, errorIndex);
+    }
+
+    /**
+     * Signals the end of the numeral and returns the result. The parser keeps its state
+     * until {@link #reset()} is called.
+     *
+     * @return The parse result, packed as described by {@link PackedParseResult}. Error
+     *         indices are relative to the first character accepted since the last reset.
+     */
+    public long finishPacked() {
+        while (this.pendingCount > 0 && this.failure == NO_FAILURE) {
+            consume();
+        }
+        if (this.failure != NO_FAILURE) {
+            return this.failure;
+        } else if (this.position == 0) {
+            return PackedParseResult.failure(NumeralErrorKind.EMPTY_INPUT, 0);
+        }
+        return PackedParseResult.success((int) this.sum);
+    }
+
+    /**
+     * Signals the end of the numeral and returns its value. The parser keeps its state
+     * until {@link #reset()} is called.
+     *
+     * @return The value.
+     * @throws RomanNumeralException If the input does not form a valid numeral.
+     */
+    public int finish() {
+        final long result = finishPacked();
+        if (!PackedParseResult.isSuccess(result)) {
+            throw RomanNumeralException.parseFailure(this.type, null, result);
+        }
+        return PackedParseResult.getValue(result);
+    }
+}
@@ -0,0 +1,71 @@
+package de.skuzzle.roman;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Holds the globally registered {@link NumeralMetricsListener} and notifies it. All
+ * methods are meant to be called unconditionally from the instrumented code paths: if no
+ * listener is registered, they reduce to a single read of a field and a branch.
+ *
+ * @author Simon Taddiken
+ */
+final class Instrumentation {
+
+    private static final long NOT_STARTED = Long.MIN_VALUE;
+
+    private static volatile NumeralMetricsListener listener;
+
+    private Instrumentation() {
+        // hidden
+    }
+
+    static NumeralMetricsListener getListener() {
+        return listener;
+    }
+
+    static void setListener(NumeralMetricsListener newListener) {
+        listener = newListener;
+    }
+
+    /**
+     * Decides whether the current operation is timed.
+     *
+     * @param listener The current listener, may be null.
+     * @return The start time or a marker value if the operation is not timed.
+     */
+    static long start(NumeralMetricsListener listener) {
+        if (listener == null
+                || ThreadLocalRandom.current().nextInt(Settings.METRICS_SAMPLE_RATE) != 0) {
+            return NOT_STARTED;
+        }
+        return System.nanoTime();
+    }
+
+    private static long elapsed(long start) {
+        return start == NOT_STARTED
+                ? NumeralMetricsListener.NOT_SAMPLED
+                : System.nanoTime() - start;
+    }
+
+    static void parsed(NumeralMetricsListener listener, NumeralType type,
+            int inputLength, long result, long start) {
+        if (listener != null) {
+            listener.onParse(type, inputLength, PackedParseResult.getErrorKind(result),
+                    elapsed(start));
+        }
+    }
+
+    static void formatted(NumeralMetricsListener listener, NumeralType type, long value,
+            NumeralErrorKind failure, long start) {
+        if (listener != null) {
+            listener.onFormat(type, value, failure, elapsed(start));
+        }
+    }
+
+    static void converted(NumeralMetricsListener listener, NumeralType source,
+            NumeralType target, int inputLength, NumeralErrorKind failure, long start) {
+        if (listener != null) {
+            listener.onConvert(source, target, inputLength, failure, elapsed(start));
+        }
+    }
+}
@@ -0,0 +1,719 @@
+package de.skuzzle.roman;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * The literal table of a {@link RomanLiteralStrategy}, compiled into a character indexed
+ * trie. Recognizing the next literal within a stream takes a single table transition per
+ * input character instead of testing every literal of the strategy in turn. The
+ * strategy's rules about consecutive and prefixed literals are precomputed into tables
+ * which are indexed by literal.
+ *
+ * <p>
+ * Literals are referred to by their index within the strategy's literal table. As the
+ * literals are ordered by descending value, a smaller index always denotes a bigger
+ * literal.
+ * </p>
+ *
+ * <p>
+ * Lower case letters and the single letter code points of the Unicode Number Forms
+ * block, like {@code U+216F} (&#x216F;), are mapped to the same character classes as
+ * their upper case ASCII counterparts, so they are accepted without any normalization.
+ * The code points which combine multiple letters, like {@code U+216B} (&#x216B;), are
+ * decomposed into literals when the automaton is compiled. They are only examined if no
+ * literal can be recognized at the current position, so they add no cost to parsing
+ * ASCII input.
+ * </p>
+ *
+ * @author Simon Taddiken
+ */
+final class LiteralAutomaton {
+
+    /** Returned by the matching methods if no literal could be recognized. */
+    public static final int NO_MATCH = -1;
+
+    /** Returned by {@link #nextConsecutives(int, int, int)} for an illegal prefix. */
+    static final int ILLEGAL_PREFIX = -1;
+
+    /** Returned by {@link #nextConsecutives(int, int, int)} for too many repetitions. */
+    static final int TOO_MANY_CONSECUTIVE = -2;
+
+    /**
+     * Byte regions of at least this length are checked for invalid characters using
+     * {@link AsciiLiterals} before they are parsed, so that garbage is rejected without
+     * applying any rule.
+     */
+    private static final int BULK_VALIDATION_LENGTH = 16;
+
+    /** Returned by {@link #runFailure} if a run can be consumed completely. */
+    private static final long NO_FAILURE = 0L;
+
+    private static final String ALPHABET = "IVXLCDM";
+    private static final byte[] CHAR_CLASSES = new byte[128];
+
+    /** First code point of the roman numerals within the Unicode Number Forms block. */
+    private static final int UNICODE_BASE = 0x2160;
+
+    /**
+     * Character classes of the Unicode roman numerals from {@code U+2160} to
+     * {@code U+2188}. Only code points which represent a single letter are mapped.
+     */
+    private static final byte[] UNICODE_CLASSES = new byte[0x29];
+
+    /**
+     * Letters of the Unicode roman numerals which combine multiple letters, indexed like
+     * {@link #UNICODE_CLASSES}.
+     */
+    private static final String[] UNICODE_COMPOUNDS = new String[0x29];
+    static {
+        Arrays.fill(CHAR_CLASSES, (byte) -1);
+        Arrays.fill(UNICODE_CLASSES, (byte) -1);
+        for (int i = 0; i < ALPHABET.length(); ++i) {
+            final char c = ALPHABET.charAt(i);
+            CHAR_CLASSES[c] = (byte) i;
+            CHAR_CLASSES[Character.toLowerCase(c)] = (byte) i;
+        }
+        // upper case forms start at U+2160, lower case forms at U+2170
+        final String[] forms = { "I", "II", "III", "IV", "V", "VI", "VII", "VIII", "IX",
+                "X", "XI", "XII", "L", "C", "D", "M" };
+        for (int i = 0; i < forms.length; ++i) {
+            if (forms[i].length() == 1) {
+                UNICODE_CLASSES[i] = CHAR_CLASSES[forms[i].charAt(0)];
+                UNICODE_CLASSES[i + 0x10] = UNICODE_CLASSES[i];
+            } else {
+                UNICODE_COMPOUNDS[i] = forms[i];
+                UNICODE_COMPOUNDS[i + 0x10] = forms[i];
+            }
+        }
+        // U+2180 ROMAN NUMERAL ONE THOUSAND C D
+        UNICODE_CLASSES[0x20] = CHAR_CLASSES['M'];
+    }
+
+    private static final int ROOT = 0;
+    private static final int NO_STATE = 0;
+
+    private final Literal[] literals;
+    private final int[] values;
+    private final int[] lengths;
+    private final int[] maxSameConsecutive;
+    private final boolean[] illegalPrefix;
+
+    /** transitions[state * ALPHABET.length() + charClass] */
+    private final int[] transitions;
+    private final int[] accepting;
+
+    /**
+     * For every literal which may be consumed in runs, the class of its single
+     * character. {@code -1} for all other literals.
+     */
+    private final int[] runClasses;
+    private final int maxLiteralLength;
+
+    /**
+     * For every code point of {@link #UNICODE_COMPOUNDS}, the literals it decomposes
+     * into or {@code null} if it can not be decomposed into literals of this automaton.
+     */
+    private final int[][] compounds;
+
+    /**
+     * Numerals up to this length can not exceed {@link Integer#MAX_VALUE} and can thus be
+     * validated without accumulating their value.
+     */
+    private final int maxLengthWithoutOverflow;
+
+    private LiteralAutomaton(Literal[] literals, int[] maxSameConsecutive,
+            boolean[] illegalPrefix, int[] transitions, int[] accepting) {
+        this.literals = literals;
+        this.values = new int[literals.length];
+        this.lengths = new int[literals.length];
+        for (int i = 0; i < literals.length; ++i) {
+            this.values[i] = literals[i].intValue();
+            this.lengths[i] = literals[i].length();
+        }
+        this.maxSameConsecutive = maxSameConsecutive;
+        this.illegalPrefix = illegalPrefix;
+        this.transitions = transitions;
+        this.accepting = accepting;
+        this.runClasses = new int[literals.length];
+        int maxLiteralLength = 0;
+        int maxLiteralValue = 1;
+        for (int i = 0; i < literals.length; ++i) {
+            this.runClasses[i] = runClass(i);
+            maxLiteralLength = Math.max(maxLiteralLength, this.lengths[i]);
+            maxLiteralValue = Math.max(maxLiteralValue, this.values[i]);
+        }
+        this.maxLiteralLength = maxLiteralLength;
+        this.compounds = new int[UNICODE_COMPOUNDS.length][];
+        for (int i = 0; i < UNICODE_COMPOUNDS.length; ++i) {
+            if (UNICODE_COMPOUNDS[i] != null) {
+                this.compounds[i] = decompose(UNICODE_COMPOUNDS[i]);
+                maxLiteralValue = Math.max(maxLiteralValue, sumOf(this.compounds[i]));
+            }
+        }
+        this.maxLengthWithoutOverflow = Integer.MAX_VALUE / maxLiteralValue;
+    }
+
+    private int[] decompose(String letters) {
+        final int[] result = new int[letters.length()];
+        int count = 0;
+        int idx = 0;
+        while (idx < letters.length()) {
+            final int lit = literalAt(letters, idx, letters.length());
+            if (lit == NO_MATCH) {
+                return null;
+            }
+            result[count++] = lit;
+            idx += this.lengths[lit];
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private int sumOf(int[] literals) {
+        int sum = 0;
+        if (literals != null) {
+            for (final int lit : literals) {
+                sum += this.values[lit];
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * A literal can be consumed in runs if it consists of a single character, may follow
+     * itself and no other literal consists solely of the same character. Within a run of
+     * such a character, every position which is far enough from the end of the run
+     * that no longer literal could start there, must be a repetition of that literal.
+     */
+    private int runClass(int literal) {
+        if (this.lengths[literal] != 1 || isIllegalPrefix(literal, literal)) {
+            return -1;
+        }
+        final char c = this.literals[literal].toString().charAt(0);
+        for (int i = 0; i < this.literals.length; ++i) {
+            final String other = this.literals[i].toString();
+            if (i != literal && other.replace(String.valueOf(c), "").isEmpty()) {
+                return -1;
+            }
+        }
+        return charClass(c);
+    }
+
+    /**
+     * Compiles the given literals together with the rules of the given strategy.
+     *
+     * @param strategy The strategy which defines the rules about consecutive and
+     *            prefixed literals.
+     * @param literals The literals of the strategy, ordered by descending value.
+     * @return The compiled automaton.
+     */
+    public static LiteralAutomaton compile(RomanLiteralStrategy strategy,
+            Literal[] literals) {
+        final int n = literals.length;
+        final int[] maxSameConsecutive = new int[n];
+        final boolean[] illegalPrefix = new boolean[n * n];
+        for (int i = 0; i < n; ++i) {
+            maxSameConsecutive[i] = strategy.getMaxSameConsecutive(literals[i]);
+            for (int j = 0; j < n; ++j) {
+                illegalPrefix[i * n + j] = strategy.isIllegalPrefix(literals[i],
+                        literals[j]);
+            }
+        }
+
+        // state 0 is the root. As no transition can lead back to the root, 0 also
+        // serves as marker for missing transitions
+        final int width = ALPHABET.length();
+        int states = 1;
+        for (final Literal literal : literals) {
+            states += literal.length();
+        }
+        int[] transitions = new int[states * width];
+        int[] accepting = new int[states];
+        Arrays.fill(accepting, NO_MATCH);
+
+        int used = 1;
+        for (int i = 0; i < n; ++i) {
+            final String chars = literals[i].toString();
+            int state = ROOT;
+            for (int j = 0; j < chars.length(); ++j) {
+                final int charClass = charClass(chars.charAt(j));
+                if (charClass < 0) {
+                    throw new IllegalArgumentException(String.format(
+                            "Literal '%s' contains unsupported character '%s'",
+                            chars, chars.charAt(j)));
+                }
+                final int cell = state * width + charClass;
+                if (transitions[cell] == NO_STATE) {
+                    transitions[cell] = used++;
+                }
+                state = transitions[cell];
+            }
+            if (accepting[state] == NO_MATCH) {
+                accepting[state] = i;
+            }
+        }
+        transitions = Arrays.copyOf(transitions, used * width);
+        accepting = Arrays.copyOf(accepting, used);
+        return new LiteralAutomaton(literals.clone(), maxSameConsecutive,
+                illegalPrefix, transitions, accepting);
+    }
+
+    /**
+     * Maps a character to its index within the alphabet of roman literals. ASCII bytes
+     * can be mapped by passing their unsigned value.
+     *
+     * @param c The character.
+     * @return The index or a negative value if the character is no roman literal.
+     */
+    static int charClass(int c) {
+        if (c < CHAR_CLASSES.length) {
+            return CHAR_CLASSES[c];
+        }
+        final int unicode = c - UNICODE_BASE;
+        return unicode >= 0 && unicode < UNICODE_CLASSES.length
+                ? UNICODE_CLASSES[unicode]
+                : -1;
+    }
+
+    /**
+     * Whether the given character is a Unicode roman numeral which combines multiple
+     * letters, like {@code U+216B} (&#x216B;).
+     *
+     * @param c The character.
+     * @return Whether the character is a compound numeral.
+     */
+    static boolean isCompound(int c) {
+        final int unicode = c - UNICODE_BASE;
+        return unicode >= 0 && unicode < UNICODE_COMPOUNDS.length
+                && UNICODE_COMPOUNDS[unicode] != null;
+    }
+
+    /**
+     * Returns the literals which the given compound Unicode numeral decomposes into.
+     *
+     * @param c The character.
+     * @return The literal indices or {@code null} if the character is no compound
+     *         numeral or can not be decomposed into literals of this automaton.
+     */
+    int[] compoundAt(char c) {
+        return isCompound(c)
+                ? this.compounds[c - UNICODE_BASE]
+                : null;
+    }
+
+    /**
+     * Parses the given region of the given sequence as a single roman numeral. The whole
+     * region must be made up of literals which comply with the rules of the strategy
+     * from which this automaton has been compiled. This method does not allocate.
+     *
+     * <p>
+     * Runs of the same single character literal, like the {@code M}s of a high valued
+     * numeral, are counted with a tight scan instead of being recognized literal by
+     * literal. The value is accumulated into a {@code long} and parsing fails at the
+     * literal which would make it exceed {@link Integer#MAX_VALUE}.
+     * </p>
+     *
+     * @param s The sequence to read from.
+     * @param from Index of the first character to parse.
+     * @param to Index after the last character to parse.
+     * @return The parse result, packed as described by {@link PackedParseResult}.
+     */
+    public long parse(CharSequence s, int from, int to) {
+        return parseChars(s, from, to);
+    }
+
+    /**
+     * Implements all {@code parse} methods. The input is read through
+     * {@link #charAt(Object, int)}, so every rule is applied the same way to every kind
+     * of input.
+     *
+     * @param source A {@link CharSequence}, a {@code byte[]} or a {@link ByteBuffer}.
+     * @param from Index of the first character to parse.
+     * @param to Index after the last character to parse.
+     * @return The parse result, packed as described by {@link PackedParseResult}.
+     */
+    private long parseChars(Object source, int from, int to) {
+        if (from >= to) {
+            return PackedParseResult.failure(NumeralErrorKind.EMPTY_INPUT, from);
+        }
+        int idx = from;
+        long sum = 0;
+        int consecutives = 0;
+        int last = NO_MATCH;
+        int lastIdx = -1;
+
+        while (idx < to) {
+            final int lit = literalAtChars(source, idx, to);
+            if (lit == NO_MATCH) {
+                final int[] compound = compoundAt((char) charAt(source, idx));
+                if (compound == null) {
+                    return PackedParseResult.failure(NumeralErrorKind.UNKNOWN_LITERAL,
+                            idx);
+                }
+                for (final int part : compound) {
+                    consecutives = nextConsecutives(last, part, consecutives);
+                    if (consecutives == ILLEGAL_PREFIX) {
+                        return PackedParseResult.failure(NumeralErrorKind.ILLEGAL_PREFIX,
+                                idx);
+                    } else if (consecutives == TOO_MANY_CONSECUTIVE) {
+                        return PackedParseResult.failure(
+                                NumeralErrorKind.TOO_MANY_CONSECUTIVE, idx);
+                    }
+                    sum += this.values[part];
+                    last = part;
+                }
+                if (sum > Integer.MAX_VALUE) {
+                    return PackedParseResult.failure(NumeralErrorKind.OVERFLOW, idx);
+                }
+                lastIdx = idx;
+                ++idx;
+                continue;
+            }
+            consecutives = nextConsecutives(last, lit, consecutives);
+            if (consecutives == ILLEGAL_PREFIX) {
+                return PackedParseResult.failure(NumeralErrorKind.ILLEGAL_PREFIX,
+                        lastIdx);
+            } else if (consecutives == TOO_MANY_CONSECUTIVE) {
+                return PackedParseResult.failure(NumeralErrorKind.TOO_MANY_CONSECUTIVE,
+                        idx);
+            }
+            sum += this.values[lit];
+            if (sum > Integer.MAX_VALUE) {
+                return PackedParseResult.failure(NumeralErrorKind.OVERFLOW, idx);
+            }
+            last = lit;
+            lastIdx = idx;
+            idx += this.lengths[lit];
+
+            final int runClass = this.runClasses[lit];
+            if (runClass >= 0) {
+                int runEnd = idx;
+                while (runEnd < to && charClass(charAt(source, runEnd)) == runClass) {
+                    ++runEnd;
+                }
+                final int repeats = safeRepeats(idx, runEnd);
+                if (repeats > 0) {
+                    final long failure = runFailure(lit, consecutives, sum, idx,
+                            repeats);
+                    if (failure != NO_FAILURE) {
+                        return failure;
+                    }
+                    consecutives += repeats;
+                    sum += (long) repeats * this.values[lit];
+                    lastIdx = idx + repeats - 1;
+                    idx += repeats;
+                }
+            }
+        }
+        return PackedParseResult.success((int) sum);
+    }
+
+    /**
+     * Tests whether the given region of the given sequence forms a valid roman numeral.
+     * This yields the same result as testing the result of
+     * {@link #parse(CharSequence, int, int)} for success, but only the strategy's
+     * structural rules are applied and no value is accumulated. Only if the region is
+     * long enough that its value could exceed {@link Integer#MAX_VALUE}, it is fully
+     * parsed instead.
+     *
+     * @param s The sequence to read from.
+     * @param from Index of the first character to test.
+     * @param to Index after the last character to test.
+     * @return Whether the region forms a valid numeral.
+     */
+    public boolean isValid(CharSequence s, int from, int to) {
+        if (to - from > this.maxLengthWithoutOverflow) {
+            return PackedParseResult.isSuccess(parse(s, from, to));
+        } else if (from >= to) {
+            return false;
+        }
+        int idx = from;
+        int consecutives = 0;
+        int last = NO_MATCH;
+
+        while (idx < to) {
+            final int lit = literalAt(s, idx, to);
+            if (lit == NO_MATCH) {
+                final int[] compound = compoundAt(s.charAt(idx));
+                if (compound == null) {
+                    return false;
+                }
+                for (final int part : compound) {
+                    consecutives = nextConsecutives(last, part, consecutives);
+                    if (consecutives < 0) {
+                        return false;
+                    }
+                    last = part;
+                }
+                ++idx;
+                continue;
+            }
+            consecutives = nextConsecutives(last, lit, consecutives);
+            if (consecutives < 0) {
+                return false;
+            }
+            last = lit;
+            idx += this.lengths[lit];
+
+            final int runClass = this.runClasses[lit];
+            if (runClass >= 0) {
+                int runEnd = idx;
+                while (runEnd < to && charClass(s.charAt(runEnd)) == runClass) {
+                    ++runEnd;
+                }
+                final int repeats = safeRepeats(idx, runEnd);
+                if (repeats > 0) {
+                    if ((long) consecutives + repeats >= this.maxSameConsecutive[lit]) {
+                        return false;
+                    }
+                    consecutives += repeats;
+                    idx += repeats;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses the given region of the given array of ASCII encoded characters as a single
+     * roman numeral. Works like {@link #parse(CharSequence, int, int)}.
+     *
+     * @param b The bytes to read from.
+     * @param from Index of the first byte to parse.
+     * @param to Index after the last byte to parse.
+     * @return The parse result, packed as described by {@link PackedParseResult}.
+     */
+    public long parse(byte[] b, int from, int to) {
+        if (to - from >= BULK_VALIDATION_LENGTH) {
+            final int invalid = AsciiLiterals.indexOfNonLiteral(b, from, to);
+            if (invalid != AsciiLiterals.ALL_VALID) {
+                return rejectAt(invalid, from, parse(b, from, invalid));
+            }
+        }
+        return parseChars(b, from, to);
+    }
+
+    /**
+     * Parses the given region of the given buffer of ASCII encoded characters as a single
+     * roman numeral. Works like {@link #parse(CharSequence, int, int)}. The bytes are
+     * read using absolute indices so the buffer's position and limit are not modified.
+     * Buffers which are backed by an array are parsed directly from that array.
+     *
+     * @param b The buffer to read from.
+     * @param from Absolute index of the first byte to parse.
+     * @param to Absolute index after the last byte to parse.
+     * @return The parse result, packed as described by {@link PackedParseResult}.
+     */
+    public long parse(ByteBuffer b, int from, int to) {
+        if (b.hasArray()) {
+            final int offset = b.arrayOffset();
+            final long result = parse(b.array(), offset + from, offset + to);
+            return PackedParseResult.isSuccess(result)
+                    ? result
+                    : PackedParseResult.failure(
+                            PackedParseResult.getErrorKind(result),
+                            PackedParseResult.getErrorIndex(result) - offset);
+        }
+        if (to - from >= BULK_VALIDATION_LENGTH) {
+            final int invalid = AsciiLiterals.indexOfNonLiteral(b, from, to);
+            if (invalid != AsciiLiterals.ALL_VALID) {
+                return rejectAt(invalid, from, parse(b, from, invalid));
+            }
+        }
+        return parseChars(b, from, to);
+    }
+
+    /**
+     * Determines the result of parsing a region which contains an invalid byte. The
+     * automaton never looks past an invalid byte before reporting an error, so the
+     * result equals the result for the region up to that byte, unless it is successful.
+     *
+     * @param invalid Index of the first invalid byte.
+     * @param from Index of the first byte of the region.
+     * @param prefixResult The result of parsing the region up to the invalid byte.
+     * @return The result for the whole region.
+     */
+    private static long rejectAt(int invalid, int from, long prefixResult) {
+        return invalid == from || PackedParseResult.isSuccess(prefixResult)
+                ? PackedParseResult.failure(NumeralErrorKind.UNKNOWN_LITERAL, invalid)
+                : prefixResult;
+    }
+
+    /**
+     * Determines how many repetitions of a run literal can be consumed at once.
+     *
+     * @param idx Index after the literal which has just been recognized.
+     * @param runEnd Index after the last character of the run which starts at idx.
+     * @return The number of repetitions which can not be part of a longer literal.
+     */
+    private int safeRepeats(int idx, int runEnd) {
+        return runEnd - idx - (this.maxLiteralLength - 1);
+    }
+
+    /**
+     * Checks whether consuming {@code repeats} further repetitions of the given literal
+     * would violate the consecutive rule or overflow the value.
+     *
+     * @param literal The literal which is repeated.
+     * @param consecutives The repetitions so far.
+     * @param sum The value so far.
+     * @param idx The index of the first repetition.
+     * @param repeats The number of repetitions to consume.
+     * @return The packed failure at the first offending repetition or
+     *         {@link #NO_FAILURE} if all repetitions can be consumed.
+     */
+    private long runFailure(int literal, int consecutives, long sum, int idx,
+            int repeats) {
+        long errorIndex = Long.MAX_VALUE;
+        NumeralErrorKind kind = null;
+        final int max = this.maxSameConsecutive[literal];
+        if ((long) consecutives + repeats >= max) {
+            errorIndex = idx + (max - consecutives - 1L);
+            kind = NumeralErrorKind.TOO_MANY_CONSECUTIVE;
+        }
+        final int value = this.values[literal];
+        if (sum + (long) repeats * value > Integer.MAX_VALUE) {
+            final long overflowing = idx + (Integer.MAX_VALUE - sum) / value;
+            if (overflowing < errorIndex) {
+                errorIndex = overflowing;
+                kind = NumeralErrorKind.OVERFLOW;
+            }
+        }
+        return kind == null
+                ? NO_FAILURE
+                : PackedParseResult.failure(kind, (int) errorIndex);
+    }
+
+    /**
+     * Applies the strategy's rules to the literal {@code current} which has been
+     * recognized directly after the literal {@code last}.
+     *
+     * @param last The previous literal or {@link #NO_MATCH} if current is the first one.
+     * @param current The current literal.
+     * @param consecutives How often last has been repeated consecutively so far, not
+     *            counting its first occurrence.
+     * @return The updated repetition count, {@link #ILLEGAL_PREFIX} if last may not be
+     *         placed in front of current or {@link #TOO_MANY_CONSECUTIVE} if current
+     *         has been repeated too often.
+     */
+    int nextConsecutives(int last, int current, int consecutives) {
+        if (last == NO_MATCH) {
+            return 0;
+        } else if (isIllegalPrefix(last, current)) {
+            return ILLEGAL_PREFIX;
+        } else if (last == current) {
+            final int result = consecutives + 1;
+            return result == this.maxSameConsecutive[current]
+                    ? TOO_MANY_CONSECUTIVE
+                    : result;
+        }
+        return 0;
+    }
+
+    /**
+     * Determines the greatest literal which starts at the given position in the given
+     * sequence. This yields the same result as
+     * {@link RomanLiteralStrategy#findNext(char[], java.text.ParsePosition)}.
+     *
+     * @param s The sequence.
+     * @param start Index of the first character to consider.
+     * @param end Index after the last character to consider.
+     * @return The index of the matched literal or {@link #NO_MATCH}.
+     */
+    public int literalAt(CharSequence s, int start, int end) {
+        return literalAtChars(s, start, end);
+    }
+
+    /**
+     * Determines the greatest literal which starts at the given position in the given
+     * array of ASCII encoded characters.
+     *
+     * @param b The bytes.
+     * @param start Index of the first byte to consider.
+     * @param end Index after the last byte to consider.
+     * @return The index of the matched literal or {@link #NO_MATCH}.
+     */
+    public int literalAt(byte[] b, int start, int end) {
+        return literalAtChars(b, start, end);
+    }
+
+    /**
+     * Determines the greatest literal which starts at the given absolute position in the
+     * given buffer of ASCII encoded characters.
+     *
+     * @param b The buffer.
+     * @param start Index of the first byte to consider.
+     * @param end Index after the last byte to consider.
+     * @return The index of the matched literal or {@link #NO_MATCH}.
+     */
+    public int literalAt(ByteBuffer b, int start, int end) {
+        return literalAtChars(b, start, end);
+    }
+
+    private int literalAtChars(Object source, int start, int end) {
+        int state = ROOT;
+        int best = NO_MATCH;
+        for (int i = start; i < end; ++i) {
+            state = transition(state, charAt(source, i));
+            if (state == NO_STATE) {
+                break;
+            }
+            best = better(best, this.accepting[state]);
+        }
+        return best;
+    }
+
+    /**
+     * Reads the character at the given index from one of the supported inputs. Bytes
+     * are read as unsigned ASCII values and from buffers using absolute indices.
+     *
+     * @param source A {@link CharSequence}, a {@code byte[]} or a {@link ByteBuffer}.
+     * @param idx The index.
+     * @return The character.
+     */
+    private static int charAt(Object source, int idx) {
+        if (source instanceof byte[]) {
+            return ((byte[]) source)[idx] & 0xFF;
+        } else if (source instanceof ByteBuffer) {
+            return ((ByteBuffer) source).get(idx) & 0xFF;
+        }
+        return ((CharSequence) source).charAt(idx);
+    }
+
+    private int transition(int state, int c) {
+        final int charClass = charClass(c);
+        return charClass < 0
+                ? NO_STATE
+                : this.transitions[state * ALPHABET.length() + charClass];
+    }
+
+    private static int better(int best, int accepted) {
+        return accepted != NO_MATCH && (best == NO_MATCH || accepted < best)
+                ? accepted
+                : best;
+    }
+
+    public Literal getLiteral(int literal) {
+        return this.literals[literal];
+    }
+
+    public int valueOf(int literal) {
+        return this.values[literal];
+    }
+
+    public int lengthOf(int literal) {
+        return this.lengths[literal];
+    }
+
+    public int getMaxLiteralLength() {
+        return this.maxLiteralLength;
+    }
+
+    public int getMaxSameConsecutive(int literal) {
+        return this.maxSameConsecutive[literal];
+    }
+
+    public boolean isIllegalPrefix(int prefix, int current) {
+        return this.illegalPrefix[prefix * this.literals.length + current];
+    }
+}
@@ -0,0 +1,46 @@
+package de.skuzzle.roman;
+
+/**
+ * Describes why a value could not be parsed or formatted. The kind of a failed parse
+ * operation can be obtained from its packed result using
+ * {@link PackedParseResult#getErrorKind(long)} without allocating any objects.
+ *
+ * @author Simon Taddiken
+ */
+public enum NumeralErrorKind {
+    /** The input did not contain any characters. */
+    EMPTY_INPUT("the input is empty"),
+    /** The input contained a character which does not start any known literal. */
+    UNKNOWN_LITERAL("unknown literal"),
+    /** A literal has been placed in front of a literal it must not precede. */
+    ILLEGAL_PREFIX("illegal prefix"),
+    /** A literal occurred consecutively more often than allowed. */
+    TOO_MANY_CONSECUTIVE("too many consecutive occurrences of the same literal"),
+    /** The value of the numeral exceeds {@link Integer#MAX_VALUE}. */
+    OVERFLOW("the value exceeds the int range"),
+    /** A negative value has been passed to a format method. */
+    NEGATIVE_VALUE("negative values can not be displayed"),
+    /** A value greater than the type's maximum has been passed to a format method. */
+    NOT_DISPLAYABLE("the value exceeds the maximum value of the type");
+
+    private static final NumeralErrorKind[] VALUES = values();
+
+    private final String description;
+
+    private NumeralErrorKind(String description) {
+        this.description = description;
+    }
+
+    static NumeralErrorKind ofOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    /**
+     * Returns a short, constant description of this error kind.
+     *
+     * @return The description.
+     */
+    public String getDescription() {
+        return this.description;
+    }
+}
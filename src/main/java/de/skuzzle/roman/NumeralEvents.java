@@ -0,0 +1,317 @@
+package de.skuzzle.roman;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.Threshold;
+
+/**
+ * Java Flight Recorder events for parsing, formatting and converting numerals. All events
+ * are disabled by default and can be enabled in a custom {@code .jfc} settings file or
+ * programmatically:
+ *
+ * <pre>
+ * recording.enable("de.skuzzle.roman.Parse").withThreshold(Duration.ofMillis(5));
+ * recording.enable("de.skuzzle.roman.Failure");
+ * </pre>
+ *
+ * <p>
+ * The {@code de.skuzzle.roman.Parse}, {@code Format} and {@code Convert} events have a
+ * default threshold of 1 ms so that only slow calls are recorded. Every failing call is
+ * additionally recorded as a {@code de.skuzzle.roman.Failure} event, regardless of its
+ * duration.
+ * </p>
+ *
+ * <p>
+ * Whether any of the events is enabled is tracked in a single flag which is updated
+ * whenever a recording changes its state. While the flag is not set, no event object is
+ * created and the event classes are never loaded. This also keeps the library working
+ * on VMs without JFR support.
+ * </p>
+ *
+ * <p>
+ * Registering the listener which tracks recordings initializes the flight recorder,
+ * which takes a considerable amount of time. Unless
+ * {@link Settings#FLIGHT_RECORDER_EVENTS} is set, the listener is therefore only
+ * registered once the flight recorder has been initialized by someone else, e.g. by a
+ * recording started using {@code jcmd}. Until then, every operation checks whether this
+ * is the case, which is a cheap field read. Processes which never record thus never
+ * initialize the flight recorder.
+ * </p>
+ *
+ * @author Simon Taddiken
+ */
+final class NumeralEvents {
+
+    private static final String SUCCESS = "SUCCESS";
+    private static final int NO_ERROR_INDEX = -1;
+
+    private static volatile boolean active;
+
+    /**
+     * Whether the listener has been registered or can never be registered because JFR
+     * is not supported by this VM.
+     */
+    private static volatile boolean settled;
+
+    static {
+        if (Settings.FLIGHT_RECORDER_EVENTS) {
+            register();
+        }
+    }
+
+    private NumeralEvents() {
+        // hidden
+    }
+
+    private static synchronized void register() {
+        if (settled) {
+            return;
+        }
+        try {
+            if (FlightRecorder.isAvailable()) {
+                // immediately activates the events if a recording is already running
+                FlightRecorder.addListener(new Activation());
+            }
+        } catch (final LinkageError | SecurityException e) {
+            // JFR is not supported by this VM, the events stay inactive
+        }
+        settled = true;
+    }
+
+    private static boolean recorderInitialized() {
+        try {
+            return FlightRecorder.isInitialized();
+        } catch (final LinkageError | SecurityException e) {
+            // JFR is not supported by this VM, stop checking
+            settled = true;
+            return false;
+        }
+    }
+
+    /**
+     * Whether any of the events is enabled in a running recording.
+     *
+     * @return Whether events should be created.
+     */
+    static boolean isActive() {
+        if (!settled && recorderInitialized()) {
+            register();
+        }
+        return active;
+    }
+
+    private static void update() {
+        active = EventType.getEventType(ParseEvent.class).isEnabled()
+                || EventType.getEventType(FormatEvent.class).isEnabled()
+                || EventType.getEventType(ConvertEvent.class).isEnabled()
+                || EventType.getEventType(FailureEvent.class).isEnabled();
+    }
+
+    static ParseEvent beginParse() {
+        if (!isActive()) {
+            return null;
+        }
+        final ParseEvent event = new ParseEvent();
+        event.begin();
+        return event;
+    }
+
+    static void parsed(ParseEvent event, NumeralType type, int inputLength,
+            long result) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        final NumeralErrorKind failure = PackedParseResult.getErrorKind(result);
+        final int errorIndex = failure == null
+                ? NO_ERROR_INDEX
+                : PackedParseResult.getErrorIndex(result);
+        if (event.shouldCommit()) {
+            event.type = type.toString();
+            event.inputLength = inputLength;
+            event.outcome = outcome(failure);
+            event.errorIndex = errorIndex;
+            event.commit();
+        }
+        failed("parse", type, inputLength, failure, errorIndex);
+    }
+
+    static FormatEvent beginFormat() {
+        if (!isActive()) {
+            return null;
+        }
+        final FormatEvent event = new FormatEvent();
+        event.begin();
+        return event;
+    }
+
+    static void formatted(FormatEvent event, NumeralType type, long value,
+            NumeralErrorKind failure) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.type = type.toString();
+            event.value = value;
+            event.outcome = outcome(failure);
+            event.commit();
+        }
+        failed("format", type, NO_ERROR_INDEX, failure, NO_ERROR_INDEX);
+    }
+
+    static ConvertEvent beginConvert() {
+        if (!isActive()) {
+            return null;
+        }
+        final ConvertEvent event = new ConvertEvent();
+        event.begin();
+        return event;
+    }
+
+    static void converted(ConvertEvent event, NumeralType source, NumeralType target,
+            int inputLength, NumeralErrorKind failure, int errorIndex) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.source = source.toString();
+            event.target = target.toString();
+            event.inputLength = inputLength;
+            event.outcome = outcome(failure);
+            event.errorIndex = errorIndex;
+            event.commit();
+        }
+        failed("convert", source, inputLength, failure, errorIndex);
+    }
+
+    private static void failed(String operation, NumeralType type, int inputLength,
+            NumeralErrorKind failure, int errorIndex) {
+        if (failure == null) {
+            return;
+        }
+        final FailureEvent event = new FailureEvent();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.type = type.toString();
+            event.inputLength = inputLength;
+            event.outcome = failure.name();
+            event.errorIndex = errorIndex;
+            event.commit();
+        }
+    }
+
+    private static String outcome(NumeralErrorKind failure) {
+        return failure == null
+                ? SUCCESS
+                : failure.name();
+    }
+
+    private static final class Activation implements FlightRecorderListener {
+
+        @Override
+        public void recorderInitialized(FlightRecorder recorder) {
+            update();
+        }
+
+        @Override
+        public void recordingStateChanged(Recording recording) {
+            update();
+        }
+    }
+
+    @Name("de.skuzzle.roman.Parse")
+    @Label("Numeral Parsed")
+    @Description("A numeral has been parsed")
+    @Category("Asterix")
+    @Enabled(false)
+    @Threshold("1 ms")
+    static final class ParseEvent extends Event {
+
+        @Label("Type")
+        String type;
+
+        @Label("Input Length")
+        int inputLength;
+
+        @Label("Outcome")
+        String outcome;
+
+        @Label("Error Index")
+        int errorIndex;
+    }
+
+    @Name("de.skuzzle.roman.Format")
+    @Label("Numeral Formatted")
+    @Description("A value has been formatted as numeral")
+    @Category("Asterix")
+    @Enabled(false)
+    @Threshold("1 ms")
+    static final class FormatEvent extends Event {
+
+        @Label("Type")
+        String type;
+
+        @Label("Value")
+        long value;
+
+        @Label("Outcome")
+        String outcome;
+    }
+
+    @Name("de.skuzzle.roman.Convert")
+    @Label("Numeral Converted")
+    @Description("A numeral has been converted to another type")
+    @Category("Asterix")
+    @Enabled(false)
+    @Threshold("1 ms")
+    static final class ConvertEvent extends Event {
+
+        @Label("Source Type")
+        String source;
+
+        @Label("Target Type")
+        String target;
+
+        @Label("Input Length")
+        int inputLength;
+
+        @Label("Outcome")
+        String outcome;
+
+        @Label("Error Index")
+        int errorIndex;
+    }
+
+    @Name("de.skuzzle.roman.Failure")
+    @Label("Numeral Operation Failed")
+    @Description("Parsing, formatting or converting failed")
+    @Category("Asterix")
+    @Enabled(false)
+    static final class FailureEvent extends Event {
+
+        @Label("Operation")
+        String operation;
+
+        @Label("Type")
+        String type;
+
+        @Label("Input Length")
+        int inputLength;
+
+        @Label("Outcome")
+        String outcome;
+
+        @Label("Error Index")
+        int errorIndex;
+    }
+}
@@ -0,0 +1,277 @@
+package de.skuzzle.roman;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Collects counters and histograms about the operations of every {@link NumeralType}.
+ * All counters are {@link LongAdder LongAdders}, so recording scales with the number of
+ * threads. The collected values can be read per type using {@link #forType(NumeralType)}
+ * or through JMX after calling {@link #registerMBeans()}.
+ *
+ * <pre>
+ * final NumeralMetrics metrics = new NumeralMetrics();
+ * NumeralMetrics.setListener(metrics);
+ * metrics.registerMBeans();
+ * </pre>
+ *
+ * <p>
+ * While no listener is registered, which is the default, the instrumented code paths do
+ * not record anything.
+ * </p>
+ *
+ * <p>
+ * The MBeans are named after the type. Types other than {@link RomanNumeralType} are
+ * additionally identified by an {@code id} key, so that custom types with the same name
+ * are exposed separately. Recording never fails because of JMX: if an MBean can not be
+ * registered while recording, the failure is logged and recording continues.
+ * </p>
+ *
+ * @author Simon Taddiken
+ */
+public final class NumeralMetrics implements NumeralMetricsListener {
+
+    private static final String OBJECT_NAME = "de.skuzzle.roman:type=NumeralMetrics,name=";
+    private static final int MAX_TRACKED_LENGTH = 32;
+    private static final int LATENCY_BUCKETS = 40;
+    private static final NumeralErrorKind[] KINDS = NumeralErrorKind.values();
+    private static final Logger LOG = Logger.getLogger(NumeralMetrics.class.getName());
+
+    private final ConcurrentMap<NumeralType, TypeMetrics> types =
+            new ConcurrentHashMap<>();
+    /** The names of the MBeans which have actually been registered by this instance. */
+    private final Set<ObjectName> registered = ConcurrentHashMap.newKeySet();
+    private volatile MBeanServer server;
+
+    /**
+     * Registers the given listener to be notified about all operations. Only a single
+     * listener can be registered at a time.
+     *
+     * @param listener The listener or {@code null} to disable notifications.
+     */
+    public static void setListener(NumeralMetricsListener listener) {
+        Instrumentation.setListener(listener);
+    }
+
+    /**
+     * Returns the currently registered listener.
+     *
+     * @return The listener or {@code null} if none is registered.
+     */
+    public static NumeralMetricsListener getListener() {
+        return Instrumentation.getListener();
+    }
+
+    /**
+     * Returns the metrics which have been collected for the given type.
+     *
+     * @param type The type.
+     * @return The metrics. Values are read live from the counters.
+     */
+    public NumeralMetricsMXBean forType(NumeralType type) {
+        return metricsOf(type);
+    }
+
+    /**
+     * Registers an MBean for every type in the platform MBean server. Types which are
+     * first used after this call are registered as well. MBeans of the same name which
+     * have been registered by another instance are left untouched.
+     *
+     * @throws IllegalStateException If registering fails.
+     */
+    public void registerMBeans() {
+        this.server = ManagementFactory.getPlatformMBeanServer();
+        for (final TypeMetrics metrics : this.types.values()) {
+            try {
+                register(metrics);
+            } catch (final JMException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * Unregisters all MBeans which have been registered by this instance.
+     *
+     * @throws IllegalStateException If unregistering fails.
+     */
+    public void unregisterMBeans() {
+        final MBeanServer current = this.server;
+        this.server = null;
+        if (current == null) {
+            return;
+        }
+        for (final ObjectName name : this.registered) {
+            try {
+                current.unregisterMBean(name);
+            } catch (final InstanceNotFoundException e) {
+                // already unregistered by someone else
+            } catch (final JMException e) {
+                throw new IllegalStateException(e);
+            }
+            this.registered.remove(name);
+        }
+    }
+
+    private void register(TypeMetrics metrics) throws JMException {
+        final MBeanServer current = this.server;
+        if (current == null) {
+            return;
+        }
+        try {
+            current.registerMBean(metrics, metrics.name);
+            this.registered.add(metrics.name);
+        } catch (final InstanceAlreadyExistsException e) {
+            // registered by another instance
+        }
+    }
+
+    private TypeMetrics metricsOf(NumeralType type) {
+        TypeMetrics result = this.types.get(type);
+        if (result == null) {
+            final TypeMetrics created = new TypeMetrics(type);
+            result = this.types.putIfAbsent(type, created);
+            if (result == null) {
+                result = created;
+                try {
+                    register(created);
+                } catch (final JMException | RuntimeException e) {
+                    // never let JMX fail the operation which is being recorded
+                    LOG.log(Level.WARNING, "Could not register MBean " + created.name, e);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static ObjectName objectName(NumeralType type) {
+        final StringBuilder name = new StringBuilder(OBJECT_NAME)
+                .append(ObjectName.quote(type.toString()));
+        if (type instanceof CustomNumeralType) {
+            name.append(",id=").append(((CustomNumeralType) type).getId());
+        } else if (!(type instanceof RomanNumeralType)) {
+            name.append(",id=")
+                    .append(Integer.toHexString(System.identityHashCode(type)));
+        }
+        try {
+            return new ObjectName(name.toString());
+        } catch (final JMException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    @Override
+    public void onParse(NumeralType type, int inputLength, NumeralErrorKind failure,
+            long nanos) {
+        final TypeMetrics metrics = metricsOf(type);
+        metrics.parses.increment();
+        metrics.record(inputLength, failure, nanos);
+    }
+
+    @Override
+    public void onFormat(NumeralType type, long value, NumeralErrorKind failure,
+            long nanos) {
+        final TypeMetrics metrics = metricsOf(type);
+        metrics.formats.increment();
+        metrics.record(-1, failure, nanos);
+    }
+
+    @Override
+    public void onConvert(NumeralType source, NumeralType target, int inputLength,
+            NumeralErrorKind failure, long nanos) {
+        final TypeMetrics metrics = metricsOf(source);
+        metrics.converts.increment();
+        metrics.record(inputLength, failure, nanos);
+    }
+
+    private static LongAdder[] adders(int length) {
+        final LongAdder[] result = new LongAdder[length];
+        for (int i = 0; i < length; ++i) {
+            result[i] = new LongAdder();
+        }
+        return result;
+    }
+
+    private static long[] sums(LongAdder[] adders) {
+        final long[] result = new long[adders.length];
+        for (int i = 0; i < adders.length; ++i) {
+            result[i] = adders[i].sum();
+        }
+        return result;
+    }
+
+    private static final class TypeMetrics implements NumeralMetricsMXBean {
+
+        private final ObjectName name;
+        private final LongAdder parses = new LongAdder();
+        private final LongAdder formats = new LongAdder();
+        private final LongAdder converts = new LongAdder();
+        private final LongAdder[] failures = adders(KINDS.length);
+        private final LongAdder[] lengths = adders(MAX_TRACKED_LENGTH + 1);
+        private final LongAdder[] latencies = adders(LATENCY_BUCKETS);
+
+        private TypeMetrics(NumeralType type) {
+            this.name = objectName(type);
+        }
+
+        private void record(int inputLength, NumeralErrorKind failure, long nanos) {
+            if (inputLength >= 0) {
+                this.lengths[Math.min(inputLength, MAX_TRACKED_LENGTH)].increment();
+            }
+            if (failure != null) {
+                this.failures[failure.ordinal()].increment();
+            }
+            if (nanos >= 0) {
+                final int bucket = 63 - Long.numberOfLeadingZeros(Math.max(1, nanos));
+                this.latencies[Math.min(bucket, LATENCY_BUCKETS - 1)].increment();
+            }
+        }
+
+        @Override
+        public long getParseCount() {
+            return this.parses.sum();
+        }
+
+        @Override
+        public long getFormatCount() {
+            return this.formats.sum();
+        }
+
+        @Override
+        public long getConvertCount() {
+            return this.converts.sum();
+        }
+
+        @Override
+        public Map<String, Long> getFailureCounts() {
+            final Map<String, Long> result = new LinkedHashMap<>();
+            for (final NumeralErrorKind kind : KINDS) {
+                result.put(kind.name(), this.failures[kind.ordinal()].sum());
+            }
+            return result;
+        }
+
+        @Override
+        public long[] getInputLengthHistogram() {
+            return sums(this.lengths);
+        }
+
+        @Override
+        public long[] getLatencyHistogram() {
+            return sums(this.latencies);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package de.skuzzle.roman;
+
+/**
+ * Receives notifications about parse, format and convert operations. A listener is
+ * registered globally using {@link NumeralMetrics#setListener(NumeralMetricsListener)}.
+ * {@link NumeralMetrics} itself is a ready to use implementation which aggregates the
+ * notifications into counters and histograms.
+ *
+ * <p>
+ * Notifications are sent from the String based entry points of {@link RomanNumeralType}
+ * ({@code parse}, {@code tryParse}, {@code format} in every style, all overloads of
+ * {@code convertTo} and {@code tryConvertTo}) and from the
+ * {@link java.text.NumberFormat NumberFormats} returned by
+ * {@link NumeralType#getNumberFormat()}. A conversion is reported once as such and not
+ * additionally as parse or format. The methods which write into arrays or buffers, the
+ * bulk methods and the scanners are not instrumented. Notifications are sent
+ * synchronously by the calling thread, so implementations must be thread safe and
+ * should return quickly.
+ * </p>
+ *
+ * <p>
+ * Measuring the duration of every operation would cost more than most operations
+ * themselves. Only a sample of operations is therefore timed, as configured by the
+ * system property {@code asterix.METRICS_SAMPLE_RATE} (one in 64 by default). For all
+ * other operations, {@link #NOT_SAMPLED} is passed instead of the duration.
+ * </p>
+ *
+ * @author Simon Taddiken
+ */
+public interface NumeralMetricsListener {
+
+    /** Passed as duration for operations which have not been timed. */
+    long NOT_SAMPLED = -1L;
+
+    /**
+     * Called after a String has been parsed.
+     *
+     * @param type The type which has been used for parsing.
+     * @param inputLength The length of the parsed String.
+     * @param failure The kind of error or {@code null} if parsing was successful.
+     * @param nanos The duration of the operation or {@link #NOT_SAMPLED}.
+     */
+    default void onParse(NumeralType type, int inputLength, NumeralErrorKind failure,
+            long nanos) {
+        // no-op
+    }
+
+    /**
+     * Called after a value has been formatted.
+     *
+     * @param type The type which has been used for formatting.
+     * @param value The formatted value.
+     * @param failure The kind of error or {@code null} if formatting was successful.
+     * @param nanos The duration of the operation or {@link #NOT_SAMPLED}.
+     */
+    default void onFormat(NumeralType type, long value, NumeralErrorKind failure,
+            long nanos) {
+        // no-op
+    }
+
+    /**
+     * Called after a numeral has been converted to another type.
+     *
+     * @param source The type of the input numeral.
+     * @param target The type of the output numeral.
+     * @param inputLength The length of the input numeral.
+     * @param failure The kind of error or {@code null} if converting was successful.
+     * @param nanos The duration of the operation or {@link #NOT_SAMPLED}.
+     */
+    default void onConvert(NumeralType source, NumeralType target, int inputLength,
+            NumeralErrorKind failure, long nanos) {
+        // no-op
+    }
+}
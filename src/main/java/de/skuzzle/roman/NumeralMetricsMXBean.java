@@ -0,0 +1,58 @@
+package de.skuzzle.roman;
+
+import java.util.Map;
+
+/**
+ * Management interface of the metrics which {@link NumeralMetrics} collects for a single
+ * {@link NumeralType}.
+ *
+ * @author Simon Taddiken
+ */
+public interface NumeralMetricsMXBean {
+
+    /**
+     * The number of parse operations.
+     *
+     * @return The count.
+     */
+    long getParseCount();
+
+    /**
+     * The number of format operations.
+     *
+     * @return The count.
+     */
+    long getFormatCount();
+
+    /**
+     * The number of convert operations for which this type has been the source type.
+     *
+     * @return The count.
+     */
+    long getConvertCount();
+
+    /**
+     * The number of failed operations, by {@link NumeralErrorKind} name.
+     *
+     * @return The counts.
+     */
+    Map<String, Long> getFailureCounts();
+
+    /**
+     * Histogram of the lengths of parsed and converted inputs. Element {@code i} holds
+     * the number of inputs of length {@code i}, the last element holds the number of all
+     * longer inputs.
+     *
+     * @return The histogram.
+     */
+    long[] getInputLengthHistogram();
+
+    /**
+     * Histogram of the sampled durations of all operations. Element {@code i} holds the
+     * number of operations which took less than {@code 2^(i+1)} nanoseconds but not less
+     * than {@code 2^i} nanoseconds.
+     *
+     * @return The histogram.
+     */
+    long[] getLatencyHistogram();
+}
@@ -0,0 +1,132 @@
+package de.skuzzle.roman;
+
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+/**
+ * Splits a text into delimited numerals and parses them lazily. Splitting happens near
+ * the middle of the remaining text, at the next delimiter, so that every numeral is
+ * parsed by exactly one of the resulting spliterators and no token is ever copied.
+ *
+ * @author Simon Taddiken
+ * @see RomanNumeralType#numerals(CharSequence, String)
+ */
+final class NumeralSpliterator implements Spliterator.OfInt {
+
+    /** Regions shorter than this are not split any further. */
+    private static final int MIN_SPLIT_LENGTH = 4096;
+
+    private final NumeralType type;
+    private final RomanLiteralStrategy strategy;
+    private final CharSequence text;
+    private final String delimiters;
+    private final boolean[] asciiDelimiters;
+    private int position;
+    private final int end;
+
+    private NumeralSpliterator(NumeralType type, RomanLiteralStrategy strategy,
+            CharSequence text, String delimiters, boolean[] asciiDelimiters,
+            int position, int end) {
+        this.type = type;
+        this.strategy = strategy;
+        this.text = text;
+        this.delimiters = delimiters;
+        this.asciiDelimiters = asciiDelimiters;
+        this.position = position;
+        this.end = end;
+    }
+
+    /**
+     * Creates a spliterator over the whole text.
+     *
+     * @param type The type, used for error reporting.
+     * @param strategy The strategy to parse with.
+     * @param text The text.
+     * @param delimiters The characters which separate numerals or {@code null} to
+     *            separate them by whitespace.
+     * @return The spliterator.
+     */
+    public static NumeralSpliterator of(NumeralType type, RomanLiteralStrategy strategy,
+            CharSequence text, String delimiters) {
+        boolean[] asciiDelimiters = null;
+        if (delimiters != null) {
+            asciiDelimiters = new boolean[128];
+            for (int i = 0; i < delimiters.length(); ++i) {
+                final char c = delimiters.charAt(i);
+                if (c < asciiDelimiters.length) {
+                    asciiDelimiters[c] = true;
+                }
+            }
+        }
+        return new NumeralSpliterator(type, strategy, text, delimiters, asciiDelimiters,
+                0, text.length());
+    }
+
+    private boolean isDelimiter(char c) {
+        if (this.delimiters == null) {
+            return Character.isWhitespace(c);
+        } else if (c < this.asciiDelimiters.length) {
+            return this.asciiDelimiters[c];
+        }
+        return this.delimiters.indexOf(c) >= 0;
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+        int start = this.position;
+        while (start < this.end && isDelimiter(this.text.charAt(start))) {
+            ++start;
+        }
+        if (start == this.end) {
+            this.position = this.end;
+            return false;
+        }
+        int tokenEnd = start + 1;
+        while (tokenEnd < this.end && !isDelimiter(this.text.charAt(tokenEnd))) {
+            ++tokenEnd;
+        }
+        this.position = tokenEnd;
+
+        final long result = this.strategy.parse(this.text, start, tokenEnd);
+        if (!PackedParseResult.isSuccess(result)) {
+            final long relative = PackedParseResult.failure(
+                    PackedParseResult.getErrorKind(result),
+                    PackedParseResult.getErrorIndex(result) - start);
+            throw RomanNumeralException.parseFailure(this.type,
+                    this.text.subSequence(start, tokenEnd).toString(), relative);
+        }
+        action.accept(PackedParseResult.getValue(result));
+        return true;
+    }
+
+    @Override
+    public OfInt trySplit() {
+        final int remaining = this.end - this.position;
+        if (remaining < MIN_SPLIT_LENGTH) {
+            return null;
+        }
+        int mid = this.position + remaining / 2;
+        while (mid < this.end && !isDelimiter(this.text.charAt(mid))) {
+            ++mid;
+        }
+        if (mid >= this.end) {
+            return null;
+        }
+        final NumeralSpliterator prefix = new NumeralSpliterator(this.type,
+                this.strategy, this.text, this.delimiters, this.asciiDelimiters,
+                this.position, mid);
+        this.position = mid;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        // every numeral is followed by at least one delimiter
+        return (this.end - this.position + 1) / 2;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+}
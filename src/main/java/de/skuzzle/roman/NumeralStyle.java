@@ -0,0 +1,52 @@
+package de.skuzzle.roman;
+
+/**
+ * Defines the characters which are used to display the literals of a formatted numeral.
+ * Every style maps each letter to exactly one character, so the length of a numeral does
+ * not depend on its style. Numerals of every style can be parsed by every
+ * {@link NumeralType}.
+ *
+ * @author Simon Taddiken
+ */
+public enum NumeralStyle {
+    /** Upper case ASCII letters like {@code MMXVIII}. This is the default style. */
+    UPPER_CASE("IVXLCDM"),
+    /** Lower case ASCII letters like {@code mmxviii}. */
+    LOWER_CASE("ivxlcdm"),
+    /** Upper case code points of the Unicode Number Forms block, starting at U+2160. */
+    UNICODE_UPPER_CASE("\u2160\u2164\u2169\u216C\u216D\u216E\u216F"),
+    /** Lower case code points of the Unicode Number Forms block, starting at U+2170. */
+    UNICODE_LOWER_CASE("\u2170\u2174\u2179\u217C\u217D\u217E\u217F");
+
+    private static final String LETTERS = "IVXLCDM";
+
+    private final String letters;
+
+    private NumeralStyle(String letters) {
+        this.letters = letters;
+    }
+
+    /**
+     * Maps the given upper case ASCII letter to the corresponding character of this
+     * style.
+     *
+     * @param letter The letter.
+     * @return The character to display.
+     */
+    char map(char letter) {
+        final int idx = LETTERS.indexOf(letter);
+        if (idx < 0) {
+            throw new IllegalArgumentException(String.format(
+                    "'%s' is not a roman literal", letter));
+        }
+        return this.letters.charAt(idx);
+    }
+
+    char[] map(char[] letters) {
+        final char[] result = new char[letters.length];
+        for (int i = 0; i < letters.length; ++i) {
+            result[i] = map(letters[i]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,113 @@
+package de.skuzzle.roman;
+
+import java.text.NumberFormat;
+import java.util.OptionalInt;
+
+/**
+ * Common interface of the built-in {@link RomanNumeralType RomanNumeralTypes} and of
+ * {@link CustomNumeralType custom numeral types}. It defines how Strings are parsed as
+ * numerals and how numbers are formatted back to numerals.
+ *
+ * @author Simon Taddiken
+ */
+public interface NumeralType {
+
+    /**
+     * Returns the biggest integer value which can be represented as numeral String using
+     * this type.
+     *
+     * @return The maximum displayable integer value using this type.
+     */
+    int getMaxValue();
+
+    /**
+     * Creates a {@link NumberFormat} instance which is able to parse and format numerals
+     * using this type.
+     *
+     * @return A new number format instance.
+     */
+    NumberFormat getNumberFormat();
+
+    /**
+     * Parses the given String as a numeral using the rules of this type.
+     *
+     * @param s The String to parse.
+     * @return The resulting int value.
+     * @throws IllegalArgumentException If the String is null or does not form a valid
+     *             numeral of this type.
+     */
+    int parse(String s);
+
+    /**
+     * Tries to parse the given String as a numeral using the rules of this type.
+     *
+     * @param s The String to parse.
+     * @return The parsed value if successful.
+     * @throws IllegalArgumentException If the String is null.
+     */
+    OptionalInt tryParse(String s);
+
+    /**
+     * Parses the given region of the given sequence as a numeral using the rules of this
+     * type without allocating any objects.
+     *
+     * @param s The sequence to read from.
+     * @param from Index of the first character of the numeral.
+     * @param to Index after the last character of the numeral.
+     * @return The parse result, packed as described by {@link PackedParseResult}.
+     * @throws IllegalArgumentException If the sequence is null.
+     * @throws IndexOutOfBoundsException If the region is not within the bounds of the
+     *             sequence.
+     */
+    long parsePacked(CharSequence s, int from, int to);
+
+    /**
+     * Tests whether the given sequence forms a valid numeral of this type.
+     *
+     * @param s The sequence to test.
+     * @return Whether the sequence is a valid numeral of this type.
+     * @throws IllegalArgumentException If the sequence is null.
+     */
+    boolean isValid(CharSequence s);
+
+    /**
+     * Creates a parser which accepts a numeral of this type in slices. The parser can be
+     * reused for any number of numerals.
+     *
+     * @return A new parser.
+     */
+    IncrementalNumeralParser newIncrementalParser();
+
+    /**
+     * Formats the given int value into a numeral using the rules of this type.
+     *
+     * @param value The value to format.
+     * @return The formatted number.
+     * @throws IllegalArgumentException If the value is negative or greater than
+     *             {@link #getMaxValue()}.
+     */
+    String format(int value);
+
+    /**
+     * Formats the given int value into a numeral using the rules of this type and the
+     * characters of the given style.
+     *
+     * @param value The value to format.
+     * @param style The style of the numeral's characters.
+     * @return The formatted number.
+     * @throws IllegalArgumentException If the value is negative or greater than
+     *             {@link #getMaxValue()}.
+     */
+    String format(int value, NumeralStyle style);
+
+    /**
+     * Computes the exact number of characters of the numeral which
+     * {@link #format(int)} produces for the given value.
+     *
+     * @param value The value.
+     * @return The length of the value's numeral.
+     * @throws IllegalArgumentException If the value is negative or greater than
+     *             {@link #getMaxValue()}.
+     */
+    int formattedLength(int value);
+}
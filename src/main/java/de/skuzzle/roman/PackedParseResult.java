@@ -0,0 +1,91 @@
+package de.skuzzle.roman;
+
+/**
+ * Decodes the primitive results of the allocation free parse methods like
+ * {@link RomanNumeralType#parsePacked(CharSequence, int, int)}. A result is a single
+ * {@code long} which either holds the parsed value or, if parsing failed, the
+ * {@link NumeralErrorKind kind} of the error and the index of the character at which it
+ * was detected.
+ *
+ * <pre>
+ * final long result = RomanNumeralType.LENIENT.parsePacked(buffer, start, end);
+ * if (PackedParseResult.isSuccess(result)) {
+ *     final int value = PackedParseResult.getValue(result);
+ * } else {
+ *     final int errorIndex = PackedParseResult.getErrorIndex(result);
+ *     final NumeralErrorKind kind = PackedParseResult.getErrorKind(result);
+ * }
+ * </pre>
+ *
+ * @author Simon Taddiken
+ */
+public final class PackedParseResult {
+
+    private static final long FAILURE_FLAG = Long.MIN_VALUE;
+    private static final long INDEX_MASK = 0xFFFFFFFFL;
+    private static final int KIND_SHIFT = 32;
+    private static final long KIND_MASK = 0xFFL;
+
+    private PackedParseResult() {
+        // hidden
+    }
+
+    static long success(int value) {
+        return value;
+    }
+
+    static long failure(NumeralErrorKind kind, int errorIndex) {
+        return FAILURE_FLAG
+                | ((long) kind.ordinal() << KIND_SHIFT)
+                | (errorIndex & INDEX_MASK);
+    }
+
+    /**
+     * Whether the given result denotes a successfully parsed value.
+     *
+     * @param result The packed result.
+     * @return Whether parsing was successful.
+     */
+    public static boolean isSuccess(long result) {
+        return result >= 0;
+    }
+
+    /**
+     * Extracts the parsed value from the given result.
+     *
+     * @param result The packed result.
+     * @return The parsed value.
+     * @throws IllegalArgumentException If the result denotes a failure.
+     */
+    public static int getValue(long result) {
+        if (!isSuccess(result)) {
+            throw new IllegalArgumentException(String.format(
+                    "Result denotes a failure at index %d", getErrorIndex(result)));
+        }
+        return (int) result;
+    }
+
+    /**
+     * Extracts the index of the character at which parsing failed from the given result.
+     *
+     * @param result The packed result.
+     * @return The error index or {@code -1} if the result denotes a success.
+     */
+    public static int getErrorIndex(long result) {
+        return isSuccess(result)
+                ? -1
+                : (int) (result & INDEX_MASK);
+    }
+
+    /**
+     * Extracts the kind of the error from the given result.
+     *
+     * @param result The packed result.
+     * @return The kind of the error or {@code null} if the result denotes a success.
+     */
+    public static NumeralErrorKind getErrorKind(long result) {
+        return isSuccess(result)
+                ? null
+                : NumeralErrorKind.ofOrdinal((int) ((result >>> KIND_SHIFT) & KIND_MASK));
+    }
+}
@@ -0,0 +1,240 @@
+package de.skuzzle.roman;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Maps the canonical numeral of every value of a naturally bounded
+ * {@link RomanLiteralStrategy} to its value using a perfect hash function. Looking up a
+ * numeral takes one pass over its characters to compute the key, one read of the
+ * bucket's displacement and a single probe into the table which holds both the key for
+ * confirmation and the value.
+ *
+ * <p>
+ * The key of a numeral packs the character class of each of its characters into
+ * three bits, so lower case and Unicode numerals map to the same key as their upper case
+ * counterparts. The table is built using the <em>hash and displace</em> scheme: keys are
+ * distributed into small buckets and, starting with the biggest bucket, a displacement is
+ * searched for each bucket which places all of its keys into free slots.
+ * </p>
+ *
+ * <p>
+ * Only the numerals produced by formatting are contained in the table. Other strings
+ * which are valid according to the strategy's rules, like {@code VIV}, as well as all
+ * invalid strings are not found and must be parsed by the {@link LiteralAutomaton}.
+ * </p>
+ *
+ * @author Simon Taddiken
+ */
+final class PerfectHashTable {
+
+    /** Returned by {@link #lookup(CharSequence, int, int)} if the numeral is unknown. */
+    public static final int NOT_FOUND = -1;
+
+    private static final int BITS_PER_CHAR = 3;
+    private static final int MAX_DISPLACEMENT_ATTEMPTS = 1 << 24;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long[] entries;
+    private final int[] displacements;
+    private final int tableShift;
+    private final int bucketShift;
+    private final int valueBits;
+    private final long valueMask;
+    private final int maxLength;
+
+    private PerfectHashTable(long[] entries, int[] displacements, int valueBits,
+            int maxLength) {
+        this.entries = entries;
+        this.displacements = displacements;
+        this.tableShift = 64 - Integer.numberOfTrailingZeros(entries.length);
+        this.bucketShift = 64 - Integer.numberOfTrailingZeros(displacements.length);
+        this.valueBits = valueBits;
+        this.valueMask = (1L << valueBits) - 1;
+        this.maxLength = maxLength;
+    }
+
+    int[] getDisplacements() {
+        return this.displacements.clone();
+    }
+
+    /**
+     * Builds the table for the given strategy. If {@link PrecomputedTables} holds the
+     * displacements for the strategy, the keys are placed directly. Otherwise the
+     * displacements are searched, which is by far the most expensive part of building
+     * the table.
+     *
+     * @param strategy The strategy.
+     * @return The table or {@code null} if the strategy's numerals are too long to be
+     *         packed into a key or no perfect hash function could be found.
+     */
+    public static PerfectHashTable build(RomanLiteralStrategy strategy) {
+        return build(strategy, PrecomputedTables.getDisplacements(strategy));
+    }
+
+    /**
+     * Builds the table for the given strategy using the given displacements. If they
+     * do not place every key into a distinct slot, e.g. because they have been computed
+     * for a different set of literals, they are searched instead.
+     *
+     * @param strategy The strategy.
+     * @param knownDisplacements The displacements or {@code null} to search them.
+     * @return The table or {@code null} if the strategy's numerals are too long to be
+     *         packed into a key or no perfect hash function could be found.
+     */
+    static PerfectHashTable build(RomanLiteralStrategy strategy,
+            int[] knownDisplacements) {
+        final int maxValue = strategy.getMaxValue();
+        final DigitFormatTable format = strategy.getFormatTable();
+        final int valueBits = 32 - Integer.numberOfLeadingZeros(maxValue);
+        final int maxLength = format.maxLength();
+        if (maxLength * BITS_PER_CHAR + valueBits >= Long.SIZE) {
+            return null;
+        }
+
+        final long[] keys = new long[maxValue];
+        for (int value = 1; value <= maxValue; ++value) {
+            keys[value - 1] = keyOf(format.toChars(value));
+        }
+
+        final int tableSize = Integer.highestOneBit(Math.max(1, maxValue - 1)) << 1;
+        final int bucketCount = Math.max(1, tableSize / 4);
+        final int bucketShift = 64 - Integer.numberOfTrailingZeros(bucketCount);
+        final int tableShift = 64 - Integer.numberOfTrailingZeros(tableSize);
+
+        if (knownDisplacements != null && knownDisplacements.length == bucketCount) {
+            final long[] entries = place(keys, knownDisplacements, tableSize,
+                    bucketShift, tableShift, valueBits);
+            if (entries != null) {
+                return new PerfectHashTable(entries, knownDisplacements.clone(),
+                        valueBits, maxLength);
+            }
+        }
+
+        final List<List<Integer>> buckets = new ArrayList<>(bucketCount);
+        for (int i = 0; i < bucketCount; ++i) {
+            buckets.add(new ArrayList<>());
+        }
+        for (int i = 0; i < keys.length; ++i) {
+            buckets.get(bucket(keys[i], bucketShift)).add(i);
+        }
+        final Integer[] order = new Integer[bucketCount];
+        for (int i = 0; i < bucketCount; ++i) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> buckets.get(b).size() - buckets.get(a).size());
+
+        final long[] entries = new long[tableSize];
+        final int[] displacements = new int[bucketCount];
+        final int[] slots = new int[tableSize];
+        for (final int bucket : order) {
+            final List<Integer> members = buckets.get(bucket);
+            if (members.isEmpty()) {
+                break;
+            }
+            final int displacement = findDisplacement(keys, members, entries, slots,
+                    tableShift);
+            if (displacement < 0) {
+                return null;
+            }
+            displacements[bucket] = displacement;
+            for (final int member : members) {
+                final int slot = slot(keys[member], displacement, tableShift);
+                entries[slot] = keys[member] << valueBits | (member + 1);
+            }
+        }
+        return new PerfectHashTable(entries, displacements, valueBits, maxLength);
+    }
+
+    private static long[] place(long[] keys, int[] displacements, int tableSize,
+            int bucketShift, int tableShift, int valueBits) {
+        final long[] entries = new long[tableSize];
+        for (int i = 0; i < keys.length; ++i) {
+            final int displacement = displacements[bucket(keys[i], bucketShift)];
+            final int slot = slot(keys[i], displacement, tableShift);
+            if (entries[slot] != 0) {
+                return null;
+            }
+            entries[slot] = keys[i] << valueBits | (i + 1);
+        }
+        return entries;
+    }
+
+    private static int findDisplacement(long[] keys, List<Integer> members,
+            long[] entries, int[] slots, int tableShift) {
+        attempts: for (int d = 0; d < MAX_DISPLACEMENT_ATTEMPTS; ++d) {
+            for (int i = 0; i < members.size(); ++i) {
+                final int slot = slot(keys[members.get(i)], d, tableShift);
+                if (entries[slot] != 0) {
+                    continue attempts;
+                }
+                for (int j = 0; j < i; ++j) {
+                    if (slots[j] == slot) {
+                        continue attempts;
+                    }
+                }
+                slots[i] = slot;
+            }
+            return d;
+        }
+        return -1;
+    }
+
+    private static long keyOf(char[] numeral) {
+        long key = 0;
+        for (final char c : numeral) {
+            key = key << BITS_PER_CHAR | (LiteralAutomaton.charClass(c) + 1);
+        }
+        return key;
+    }
+
+    private static long mix(long x) {
+        // finalizer of MurmurHash3
+        long h = x;
+        h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+        h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+
+    private static int bucket(long key, int bucketShift) {
+        return bucketShift == 64
+                ? 0
+                : (int) (mix(key) >>> bucketShift);
+    }
+
+    private static int slot(long key, int displacement, int tableShift) {
+        return tableShift == 64
+                ? 0
+                : (int) (mix(key + (displacement + 1) * GOLDEN_GAMMA) >>> tableShift);
+    }
+
+    /**
+     * Looks up the value of the numeral in the given region of the given sequence.
+     *
+     * @param s The sequence to read from.
+     * @param from Index of the first character of the numeral.
+     * @param to Index after the last character of the numeral.
+     * @return The value or {@link #NOT_FOUND} if the region does not contain the
+     *         canonical numeral of any value.
+     */
+    public int lookup(CharSequence s, int from, int to) {
+        if (to - from > this.maxLength) {
+            return NOT_FOUND;
+        }
+        long key = 0;
+        for (int i = from; i < to; ++i) {
+            final int charClass = LiteralAutomaton.charClass(s.charAt(i));
+            if (charClass < 0) {
+                return NOT_FOUND;
+            }
+            key = key << BITS_PER_CHAR | (charClass + 1);
+        }
+        final int bucket = bucket(key, this.bucketShift);
+        final int slot = slot(key, this.displacements[bucket], this.tableShift);
+        final long entry = this.entries[slot];
+        return key != 0 && entry >>> this.valueBits == key
+                ? (int) (entry & this.valueMask)
+                : NOT_FOUND;
+    }
+}
@@ -0,0 +1,216 @@
+package de.skuzzle.roman;
+
+// Generated by PrecomputedTablesGenerator, do not edit. Regenerate using
+// mvn -Pgenerate-tables process-test-classes
+
+/**
+ * Holds tables which are expensive to compute at run time as String constants, so
+ * that initializing this class only loads constants. Each char of a String holds one
+ * table entry.
+ */
+final class PrecomputedTables {
+
+    private static final String SINGLE_SUBTRACT_DISPLACEMENTS = ""
+            + "\u0003\u0000\u001a\u0018\u0000\u0020\u0032\u0063\u0000\u0001\u0023\u0015"
+            + "\u0068\u0028\u0005\u0000\u0012\r\u0002\u001f\u0032\u0000\u0001\u0004"
+            + "\u0003\u006d\u0001\u0001\u0008\u0005\u0041\u0018\u0032\u00cd\r\u0013"
+            + "\u0002\u0053\u0000\u0020\u0007\r\u0005\u0009\u0070\u0001\n\u0010"
+            + "\u0003\u002a\u0004\u002c\u0050\u0008\u0002\u006f\u0039\u0001\u0044\u004a"
+            + "\u003d\u0023\u0008\u0028\u0001\u0000\u00ef\u0003\u0001\u000e\u0000\u0001"
+            + "\u0026\n\u0025\u0024\u0001\u0001\u001b\u0011\u0000\u001d\u0021\u0001"
+            + "\u0032\u0000\u0088\u0042\u0016\u0000\u000c\u0003\u0047\u0007\u001b\u0033"
+            + "\u0000\u004c\u0046\n\u0023\u0000\u001e\u0093\u0028\u0001\u0006\u0018"
+            + "\u0000\u0001\u0014\u012a\u0000\u0081\u0000\u0056\u004b\u0016\u0049\u00de"
+            + "\u0000\u0010\u004e\u0000\u0000\u000b\u003f\u0015\u0005\u00a3\u000b\u0012"
+            + "\u0000\u0002\u0070\u0000\u0001\u0000\u0002\u0002\u0000\u003c\u000b\u002f"
+            + "\u0003\r\u0008\u0016\u000e\u0011\u0003\u0000\u0014\u01fe\u0013\u001d"
+            + "\u005f\u00a7\u0001\u001a\u0000\u0000\u003b\u0013\u0000\u0025\u001a\u0003"
+            + "\u0095\u0029\u0006\u0000\u0001\u0000\u0009\u0004\u0153\u0085\u0000\u002a"
+            + "\u001a\u0003\u0013\u0015\u0003\u0004\u0006\u0003\\\u0017\u0020\u000e"
+            + "\u0000\u0015\u0029\u0000\u0094\u0011\u001f\u0018\u003d\u0021\u0004\u004d"
+            + "\u0003\u0005\u0019\u0015\u0131\u000c\u0026\u0002\n\u0001\u0005\u0093"
+            + "\u001c\u0028\u0001\u000e\u0001\u0002\u0000\u0002\u0084\u00b9\u0055\u0000"
+            + "\u0007\u00ae\u0001\u0013\u0063\u0002\u0079\u002b\u0000\n\u0024\u0009"
+            + "\u0010\u000b\u0000\u0000\u0061\u000f\u0001\u0003\u005b\u0016\u005a\u0005"
+            + "\u0063\u0018\u00ab\u0005\u0002\u0000\u0001\u0005\u000c\u0024\u0000\u005a"
+            + "\u0002\u0002\u0003\u004a\u0012\u004b\u0000\u0023\u0002\u0000\u0002\u0002"
+            + "\u00cc\u012f\u0044\u0180\u0035\u0002\u0019\u0000\u0042\u0000\u0018\u0087"
+            + "\u0033\u0000\u0032\u0004\u006a\u0002\u0008\u0003\u0003\u0001\u0009\u00f4"
+            + "\u0005\u0004\u0008\u0034\u0003\u00a8\u0013\u0088\u0042\u0000\u0004\n"
+            + "\u004e\u0000\u0017\u016c\u000c\"\u0017\u0000\u0000\u001f\u0001\u002a"
+            + "\u0029\u001c\u0025\u004b\u0005\u0005\u0008\u0029\u0009\u0031\u0000\u0016"
+            + "\u0004\u0006\u000e\u002f\u007d\u0010\u0009\u001c\u002b\u0000\u0007\u0001"
+            + "\u000c\u001a\u0008\u0002\u0005\u0077\u0015\u0010\u000f\u0000\u0002\u0000"
+            + "\u0005\u0021\u0015\u0041\u0002\u001b\u0015\u001f\u0002\u0011\u0160\u017e"
+            + "\u0034\u000f\u000b\u0000\u0019\u006e\u0001\u0036\u0034\u0014\u000e\u0007"
+            + "\u0083\u0153\u0000\u0040\u0006\u001d\u0015\u0069\u0047\"\u0023\u00fb"
+            + "\u0000\u00e8\u0004\u0052\u002d\u016a\u0023\u0093\u0015\n\u0003\u0004"
+            + "\u0010\u0001\u0021\u0271\u0025\u0000\u0031\u000b\u006b\u0062\u0023\u001c"
+            + "\u0003\u0013\u0000\u0000\u0012\u0001\u0014\u0050\u0030\n\u0234\u0085"
+            + "\u0010\u007e\u0000\u0027\u00b1\u0014\u0004\u0003\u0095\u0001\u00d3\u0007"
+            + "\u009e\u018c\u0002\u002d\u0001\u0018\u0044\u001f\u0051\u0007\u00ac\u00a4"
+            + "\u0012\u0028\u0001\u0006\u0057\u0001\u003f\u003b\u0007\u0001\u003b\u0001"
+            + "\u0004\u0019\u006e\u0029\r\u0031\u0080\u005a\u0066\u000f\u0002\u0000"
+            + "\u016b\u0000\u0000\u0054\u001a\u0107\u0013\u007f\u0003\u0057\u001c\u0172"
+            + "\u001c\u0029\u0307\u00e1\u004a\u0060\u0019\u00c7\u0009\u0093\u016b\u0034"
+            + "\u001b\u006a\u001a\u003c\n\u0000\u0088\u0030\u002b\u004e\u0004\u0024"
+            + "\u0025\u0052\u0050\u0083\u01e4\u00a9\u000b\u0002\u001c\u0003\\\u0026"
+            + "\r\u0019\u0007\u0014\u0000\u008e\u0011\u0059\u0002\u0032\u0000\u0034"
+            + "\u003d\u001c\u0009\u000e\u00be\u002e\u0017\u0088\u0018\u0005\u0238\u001a"
+            + "\u0061\r\u0030\n\u0000\u0002\u007e\u0011\u0004\u00ea\u0067\r"
+            + "\u004c\u0114\u0020\u0138\u0030\u0002\u0011\u002f\u0017\u000c\u0000\u0007"
+            + "\u0010\u0024\u004f\u006f\u0089\u0006\u0050\u0202\r\u0018\u000b\u002d"
+            + "\u00c6\u00ca\u0000\u0013\u0000\u0050\u008e\u001b\u0041\u0082\u0015\u0010"
+            + "\u0006\u001e\u004b\u0008\u003e\u0003\u002d\u0018\u000b\u000e\u0018\n"
+            + "\u0001\u001a\u0062\u01c5\u0002\u0001\u0003\u0347\u001a\u0154\n\u0009"
+            + "\u0000\u00dc\u0009\u00e3\u0012\u0047\u0000\r\u0001\u0018\u001a\u00f7"
+            + "\u005e\u0021\u000b\u001c\u0014\u0016\u002b\r\u002d\u0002\u006b\u0045"
+            + "\u0244\u0042\u005a\u00f5\u0020\u0004\u0000\u0055\u000b\u00d6\u00a9\u0089"
+            + "\u0014\u0293\u0007\u001e\u01ac\u0044\u0033\u0002\u001f\u0007\u0021\u0001"
+            + "\u0034\u000e\u0031\u0023\u0044\u0007\u0122\u0049\u0000\u0195\u002b\u0185"
+            + "\u0007\u0000\u007e\u00c0\u00bb\u0027\u0005\r\u0073\u0029\u0010\u0008"
+            + "\u0000\u0090\u00e4\u022b\u0000\u001c\u0355\u0095\u0005\u0037\u0080\u0029"
+            + "\u0003\u02bd\u005d\u0006\u000b\u01e5\u0018\u00e0\u0035\u0110\u0021\u0042"
+            + "\u0016\u002d\u0010\u00e4\u00a7\u001c\u0003\u00d3\u0001\u03c7\u0000\u0034"
+            + "\u02bc\u000b\u0102\u0003\u007c\u0073\u010f\u0013\u00ee\u0001\u0112\r"
+            + "\u01f7\u0041\u0014\u00e7\u0145\u01dc\u0001\u02d1\u0014\u0027\u009d\u0000"
+            + "\u0043\u029e\u0014\u0018\u0012\u0128\u0005\u0020\u0005\u0002\u003a\u0013"
+            + "\n\u003c\u0009\u0006\u0063\u0043\u026a\u00e4\u0000\u00eb\u0095\u0177"
+            + "\u005f\u0019\u0032\u0000\u0086\u000e\u0014\u0029\u000e\u037f\u005f\u0020"
+            + "\u000e\u0004\u0007\u001c\u000c\u0002\u0017\u001f\u0006\u00e4\u0009\u0019"
+            + "\u0130\u00fa\u00bb\u0014\u0085\u0084\u0041\u0001\u0006\u0130\u0074\u00ad"
+            + "\u0265\u0063\u001a\u0005\u036d\u0234\u0021\"\u0170\u01a2\u0098\u0010"
+            + "\u0176\u00a8\u0001\u000c\u0000\u0000\u0005\u0001\u0004\u004f\r\u0000"
+            + "\u0000\u0028\u0028\u000e\u0056\u0000\u0003\u0475\u0000\u0024\u0141\u000b"
+            + "\u0002\u0000\u025d\u0005\u0028\u0000\u00f6\u01e3\u002f\u0000\u0040\u0009"
+            + "\u004e\u01aa\u00d2\u0013\u0023\u0000\u0003\u000e\u002b\u0018\u0000\u0003"
+            + "\u0000\u0084\u0007\u0006\u01dc\u0117\u002c\u0000\u0004\u001b\u0000\u017d"
+            + "\u001c\u0037\u0064\u007e\u0002\u019f\u0011\u002f\u029f\u0004\u001a\u002d"
+            + "\u0002\u002c\u02af\u004d\u0003\u0062\u016b\u0000\u0008\u02e6\u0026\u03b7"
+            + "\u0002\u0026\u002b\u0002\u006e\u005b\u0053\u0002\u0059\u0001\u04ad\u0003"
+            + "\u002a\u0017\u00b5\u0018\u0083\u0010\u0020\u0011\u0043\u0000\u0012\u0070"
+            + "\u0001\u0000\u0027\u01d0\\\u0079\u003e\u0354\u004b\u001b\u012d\u02cb"
+            + "\u0104\u00b1\u0000\u0157\u0000\u0008\u004d\u0006\u0078\u0014\u0009\u0018"
+            + "\u0079\u00a8\r\u0000\u0041\u003c\u004a\u00bf\u000b\u001c\u0000\u0211"
+            + "\u004b\u0095\u045d\u012d\u007d\u0001\u0063\u001b\u0000\u0261\u001e\u0095"
+            + "\u0002\u0002\u003f\u0495\u000c\u00c6\u001a\u0000\u00c7\u0074\u0034\u000e"
+            + "\u0011\u000b\u006c\u0121\u0001\u00e2\u00d0\u0096\u0050\n\u0001\u0000"
+            + "\u0020\u0553\u00b2\u0066\u0000\r\n\u016d\u0040\u0066\u007b\u0006"
+            + "\u023a\u000e\u0002\\";
+
+    private static final String DOUBLE_SUBTRACT_DISPLACEMENTS = ""
+            + "\u0005\u000e\u000f\u0000\u0003\u0016\u0024\u0008\u0000\u0041\u0001\""
+            + "\u0007\u0004\u005a\u0005\u0002\u0002\u0000\u0006\u000c\"\u0005\u0000"
+            + "\u000f\u0012\u003e\u0001\u0093\u0010\u0060\u00b7\u0049\u0013\u0034\u0062"
+            + "\u0020\u000b\u0018\u0051\u0002\u0006\u0011\u0003\u0005\u0000\"\u0032"
+            + "\u0075\u0001\n\u0017\u0006\r\u005d\u002e\u00df\u0006\u0007\u0002"
+            + "\u002b\u0027\u0030\u001f\u0004\u0000\u0000\u0069\u0000\u0005\u0001\u001a"
+            + "\u0097\u0000\u0005\u00c1\u0047\u0000\u000e\u0003\u0002\u0003\u002d\n"
+            + "\u0000\u0000\u0003\u0001\u0041\u0001\u0040\u009d\u0000\u0006\u0005\u0009"
+            + "\u00a6\r\u0000\u0015\u0000\u0006\u0084\\\u0012\u0001\u0013\u0014"
+            + "\u0000\u004e\u0000\u0069\u0002\u0064\u0000\u0064\u004d\u0004\u0004\u0004"
+            + "\u0000\u0002\u011b\u0000\n\u0017\u00d2\u002b\u001b\u0003\u00a7\u0003"
+            + "\u0011\u0000\u000c\u0012\u0082\u0037\u0023\u0003\u0000\u0003\u0000\u00bd"
+            + "\u0001\u0002\u0019\u0060\u001f\u0006\u0000\u0005\u0001\u004f\u0008\u004e"
+            + "\u0000\u0039\u003c\u0004\u0003\u0003\u0008\u0001\u002d\u0009\u0007\u0013"
+            + "\u0008\u001e\u002c\u0000\n\u000f\u0001\u0006\u000e\u001d\u0011\u0032"
+            + "\u002d\u0001\u0042\u0144\u0008\u0046\u0002\u0014\u0002\u0000\u001c\u0001"
+            + "\n\u0031\u0006\u0031\u00b4\u0004\u002c\u0005\u0000\u001f\u0021\u0021"
+            + "\u000c\u0044\u000c\u000e\u0010\u0064\u000b\u0085\u000b\u0046\u0000\u0066"
+            + "\u0044\u0019\u00d6\u0020\u0001\u0035\u0012\u0013\u0003\u0098\u001c\u003d"
+            + "\u0005\u001f\u008c\u0027\u0112\u0020\u0009\r\u0008\u0012\u0023\u0008"
+            + "\u0001\u0000\u0000\u0005\u0138\u0000\u0001\u0008\u0033\u000f\u0012\u001e"
+            + "\u0109\u00db\u002c\r\u0003\u00c8\u004b\u0006\u0004\u00b4\u0000\u0004"
+            + "\u0044\u0004\u007e\u0023\u0008\u000f\u0029\u013d\u002e\u0000\u0001\u0014"
+            + "\u0011\u0000\u0017\u0015\u008e\u0014\u009c\u0001\u0006\u0054\"\u0002"
+            + "\u000f\u0004\u0028\u0053\u001d\u0059\u0011\u0001\u003e\u0001\u000f\u0049"
+            + "\u0004\u0047\u0038\u0024\u0002\u0076\u000e\u0018\u0106\u0003\u0001\u001e"
+            + "\u0004\u0029\u0096\u00b2\u0010\u0069\u0016\u0005\u0005\u00c0\u001b\u0024"
+            + "\u0063\u000c\u0004\u012c\u0038\r\u0002\u0006\u001b\u0067\u0009\u00e5"
+            + "\u0002\u0002\u0005\u002b\n\u0001\u0010\u0002\u0015\u0004\u0000\u0001"
+            + "\u0011\u0001\u000f\u003a\u0050\u000c\u0003\u0012\u0005\u0008\u0002\u0000"
+            + "\u0002\u0036\u0058\u0035\u0007\u0001\u0010\u0025\u0004\u0039\u0001\u0014"
+            + "\u0051\u0036\u0001\u001a\n\u00d2\u0001\u0064\u0012\u0012\u0067\u0064"
+            + "\u000b\u004b\u0000\u0001\u0028\u0027\u010c\u001d\u0001\u000b\u01be\u0074"
+            + "\u0002\u0001\u0021\u0063\u0038\u0045\u0035\u0007\u004b\u0007\u0000\u0006"
+            + "\u0048\u006a\u0008\u0061\u0003\u001b\u003d\u0000\u001f\u0012\u0004\u0024"
+            + "\u0000\u0030\u0007\r\u000c\u0004\u0010\u00b1\u0005\u003b\u0000\u004f"
+            + "\u003b\u0000\u0128\u0000\u000c\u005a\u0001\u0015\u0058\u004e\u0002\u0004"
+            + "\u0054\u00b2\u0049\u0001\u0043\u00d0\u0012\u0031\u0025\u0001\r\u00b7"
+            + "\u001d\u0015\u0018\u0032\u0036\u0000\u0002\u003c\r\u0006\u001a\u0006"
+            + "\u00f2\u001d\u0003\u0017\u0002\u0002\u007d\u0063\u0000\u0007\u0002\u000c"
+            + "\u002d\u000f\u0009\u0032\u0130\u00d0\u0000\u0004\u0030\u0089\u0008\u00ec"
+            + "\u007c\u0001\u0001\u0042\u0016\u0013\u0002\u0008\u0000\u0001\u0009\u0000"
+            + "\u0005\u0019\u00da\u0001\u001e\u0024\u0086\u0004\u0001\u0068\u0002\u0003"
+            + "\u0116\u0037\u0016\u0026\u0024\u0056\u002b\u007e\u00b2\u0007\u0000\u0021"
+            + "\u001b\u01a2\u0050\u0052\u0001\u002b\u0005\u001d\u0051\u014c\u0001\u000c"
+            + "\u0006\u0025\u0004\u0008\u0032\u0003\u008e\u000b\u0011\u0000\u00ac\u001a"
+            + "\u0027\u0003\u0005\u003c\u0000\u0056\u00a6\u000c\u00c2\u000f\u0072\u0000"
+            + "\u0045\u0025\u0012\u0044\u0001\u0001\u0002\u0000\u002c\u0000\u0000\u0007"
+            + "\u0000\u0002\u0001\u0039\u0060\u0013\u009e\u0066\u0018\u00b4\u001f\u0187"
+            + "\u0009\u0047\u0087\u0139\u0000\u000c\u0017\u000f\u000c\u008e\u0008\u00c6"
+            + "\u001b\u0009\u0028\u000c\u000b\u003a\u02bb\\\u0023\u0003\u0002\u0002"
+            + "\u0000\u002f\u0001\u0038\u00b2\u0000\u0010\u0080\u0034\u0007\u0006\u0002"
+            + "\u0002\u0076\u000e\u00ed\u0004\u00d8\u0001\u0071\u0000\u0000\u013d\u0031"
+            + "\r\u0056\n\u000f\u0004\u0001\u004a\u0001\u0003\u0000\u002c\u000f"
+            + "\u0015\u014d\u0035\u0006\u0125\n\u001e\u00a0\u0000\u0017\u001b\r"
+            + "\u0010\u006e\u003e\u0006\u01bc\u03a5\u00ca\u0081\u0208\u0067\u0032\u003e"
+            + "\u0015\u0014\u00ba\u002e\u0016\u0000\u0000\u0005\u0003\u000c\u002a\u0084"
+            + "\u000b\u0090\u003e\u0029\u0007\u0009\u0011\u01ab\u0000\"\u0032\u002b"
+            + "\u0001\"\u0047\u0007\u008b\u0005\u028b\u0108\u006f\u002f\u0483\u000c"
+            + "\u0096\u0019\u003a\u001a\u0000\u0319\u0000\u004b\u0002\u004f\u009c\u005b"
+            + "\u00a3\u000e\u013a\u001e\u004a\u0011\u0000\u0077\u0007\u0068\u02cc\u0012"
+            + "\u01a0\u0284\u0026\u00ec\u00b4\u0000\u0027\u0035\u00e5\u000c\u000b\u0127"
+            + "\u0001\u0122\u0076\u0008\u0004\u0036\u005b\u0002\u0045\u0000\u0004\u0001"
+            + "\u00dc\u0046\u0036\u0000\u0005\u0006\u0003\u0107\u0091\u0030\u01be\u0009"
+            + "\u0001\u0004\u00a5\u0133\u0096\u0011\u01e1\u0001\u0002\u0010\u0020\u02a0"
+            + "\u000b\u0003\u0023\u0181\u0000\u0001\u005d\u0001\u000b\u0027\u0025\u0002"
+            + "\u0004\u015a\u005f\u0001\u00b9\u0068\u0051\u0045\u0449\u0162\u000e\u001f"
+            + "\u001e\u0071\u0001\u002e\u0018\u0000\u0084\u000c\u0011\u0004\u002d\u0085"
+            + "\u0004\n\u000e\u0003\u0003\u0016\u0309\u0184\u009d\u015b\u016f\u0093"
+            + "\u0000\u00f8\u0002\u003a\u0012\u0009\u0000\u0000\u0041\u003d\n\u0008"
+            + "\u0003\u0030\u0026\u0030\u0039\u0006\u0001\u0020\u0002\u002c\u06e5\u0007"
+            + "\u0002\u0021\u0014\u005a\u00e6\u016d\u023f\u013a\u0136\n\u0075\u0000"
+            + "\u0158\u0003\u0004\u0b04\u0036\u001f\u005b\u000c\r\u018a\u0030\u0372"
+            + "\u006e\u0039\u0009\u0043\u0236\u068e\u04c4\u0036\n\u00a2\u0187\u002b"
+            + "\u0030\u0016\u0425\u0049\u0009\u0014\u00a6\u0031\u0013\u0029\u0005\u0032"
+            + "\u0037\u0019\u0015\u0013\u0003\u018c\u0017\u0000\r\u0176\u026b\r"
+            + "\u00aa\u0001\u0002\u0000\u0002\u0054\u0041\u0020\u0009\u0000\u0024\u00ae"
+            + "\u0011\u0059\u00ee\u025d\u0003\u0356\u0038\u0002\u0005\u0001\u020a\u001d"
+            + "\u02bf\u01d5\u002e\u000e\u016e\u0061\u00d3\u0048\u007f\u00fa\u0016\u006b"
+            + "\u00a6\u0017\u005a\u000b\u0005\u0007\u004c\u0034\u0092\u0646\u0006\u002a"
+            + "\u014b\u0000\u006a\u0134\u009e\u014e\u0576\u096b\u000f\u0003\u0170\n"
+            + "\u0166\u0019\u0000\u0040\u023e\u0099\u0014\u0017\u0000\u0010\u01a0\u0182"
+            + "\u000c\u0370\u0120\u0008\u0001\u04c6\u0030\u00ad\u002a\u0004\u0002\u0071"
+            + "\u0009\u0009\u0001\u00e9\u0001\u003d\u00c7\u0352\u0000\u0000\u02e0\r"
+            + "\u004b\u0324\u00fe\u0018\u001b\u0001\u0069\u0001\u0306\u0001\u02ee\u0028"
+            + "\u003f\u0000\u0331\u0019";
+
+    private PrecomputedTables() {
+        // hidden
+    }
+
+    /**
+     * Returns the displacements of the given strategy's {@link PerfectHashTable}.
+     *
+     * @param strategy The strategy.
+     * @return The displacements or {@code null} if they have not been precomputed.
+     */
+    static int[] getDisplacements(RomanLiteralStrategy strategy) {
+        if (strategy == RomanNumeralType.SINGLE_SUBTRACT.getStrategy()) {
+            return decode(SINGLE_SUBTRACT_DISPLACEMENTS);
+        }
+        if (strategy == RomanNumeralType.DOUBLE_SUBTRACT.getStrategy()) {
+            return decode(DOUBLE_SUBTRACT_DISPLACEMENTS);
+        }
+        return null;
+    }
+
+    private static int[] decode(String table) {
+        final int[] result = new int[table.length()];
+        for (int i = 0; i < result.length; ++i) {
+            result[i] = table.charAt(i);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,322 @@
+package de.skuzzle.roman;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalField;
+
+/**
+ * Immutable and thread-safe formatter for roman numerals. In contrast to the
+ * {@link java.text.NumberFormat} returned by {@link RomanNumeralType#getNumberFormat()},
+ * a single instance can be shared between any number of threads and stored in static
+ * fields, like a {@link java.time.format.DateTimeFormatter}.
+ *
+ * <pre>
+ * private static final RomanFormatter FORMATTER = RomanFormatter
+ *         .of(RomanNumeralType.SINGLE_SUBTRACT)
+ *         .withStyle(NumeralStyle.LOWER_CASE);
+ *
+ * FORMATTER.format(Year.of(2018)); // mmxviii
+ * FORMATTER.format(LocalDate.of(2018, 4, 21)); // xxi.iv.mmxviii
+ * </pre>
+ *
+ * <p>
+ * Every value up to {@code 3999} is served from a table of precomputed Strings which is
+ * built upon first use and shared by all formatters of the same type and style. This
+ * covers every day, month and year of the common calendar, so formatting dates does not
+ * allocate anything but the resulting String.
+ * </p>
+ *
+ * @author Simon Taddiken
+ */
+public final class RomanFormatter {
+
+    private static final int MAX_CACHED_VALUE = 3999;
+    private static final String DEFAULT_DATE_SEPARATOR = ".";
+
+    /**
+     * Caches indexed by the type's and the style's ordinal. Creating them is cheap as
+     * each cache builds its table upon first use.
+     */
+    private static final FormatCache[][] CACHES = new FormatCache[RomanNumeralType
+            .values().length][NumeralStyle.values().length];
+    static {
+        for (final RomanNumeralType type : RomanNumeralType.values()) {
+            for (final NumeralStyle style : NumeralStyle.values()) {
+                CACHES[type.ordinal()][style.ordinal()] = FormatCache.withMaxValue(type,
+                        style, MAX_CACHED_VALUE);
+            }
+        }
+    }
+
+    private final RomanNumeralType type;
+    private final NumeralStyle style;
+    private final String dateSeparator;
+    private final FormatCache cache;
+
+    private RomanFormatter(RomanNumeralType type, NumeralStyle style,
+            String dateSeparator) {
+        this.type = type;
+        this.style = style;
+        this.dateSeparator = dateSeparator;
+        this.cache = CACHES[type.ordinal()][style.ordinal()];
+    }
+
+    /**
+     * Creates a formatter which formats numerals using the given type in
+     * {@link NumeralStyle#UPPER_CASE upper case}.
+     *
+     * @param type The type.
+     * @return The formatter.
+     * @throws IllegalArgumentException If type is null.
+     */
+    public static RomanFormatter of(RomanNumeralType type) {
+        if (type == null) {
+            throw new IllegalArgumentException("type is null");
+        }
+        return new RomanFormatter(type, NumeralStyle.UPPER_CASE, DEFAULT_DATE_SEPARATOR);
+    }
+
+    /**
+     * Returns a copy of this formatter which uses the given type.
+     *
+     * @param type The type.
+     * @return The formatter.
+     * @throws IllegalArgumentException If type is null.
+     */
+    public RomanFormatter withType(RomanNumeralType type) {
+        if (type == null) {
+            throw new IllegalArgumentException("type is null");
+        }
+        return this.type == type
+                ? this
+                : new RomanFormatter(type, this.style, this.dateSeparator);
+    }
+
+    /**
+     * Returns a copy of this formatter which uses the given style.
+     *
+     * @param style The style.
+     * @return The formatter.
+     * @throws IllegalArgumentException If style is null.
+     */
+    public RomanFormatter withStyle(NumeralStyle style) {
+        if (style == null) {
+            throw new IllegalArgumentException("style is null");
+        }
+        return this.style == style
+                ? this
+                : new RomanFormatter(this.type, style, this.dateSeparator);
+    }
+
+    /**
+     * Returns a copy of this formatter which separates the components of a formatted
+     * date by the given String. The default separator is {@code "."}.
+     *
+     * @param dateSeparator The separator.
+     * @return The formatter.
+     * @throws IllegalArgumentException If dateSeparator is null.
+     */
+    public RomanFormatter withDateSeparator(String dateSeparator) {
+        if (dateSeparator == null) {
+            throw new IllegalArgumentException("dateSeparator is null");
+        }
+        return new RomanFormatter(this.type, this.style, dateSeparator);
+    }
+
+    /**
+     * Returns the type which is used to format numerals.
+     *
+     * @return The type.
+     */
+    public RomanNumeralType getType() {
+        return this.type;
+    }
+
+    /**
+     * Returns the style of the formatted numerals.
+     *
+     * @return The style.
+     */
+    public NumeralStyle getStyle() {
+        return this.style;
+    }
+
+    /**
+     * Returns the separator between the components of a formatted date.
+     *
+     * @return The separator.
+     */
+    public String getDateSeparator() {
+        return this.dateSeparator;
+    }
+
+    /**
+     * Formats the given value.
+     *
+     * @param value The value.
+     * @return The numeral.
+     * @throws RomanNumeralException If the value is negative or greater than the type's
+     *             maximum value.
+     */
+    public String format(int value) {
+        final String cached = this.cache.get(value);
+        if (cached != null) {
+            return cached;
+        }
+        return this.type.format(value, this.style);
+    }
+
+    /**
+     * Formats the given value and appends it to the given builder.
+     *
+     * @param value The value.
+     * @param out The builder to append to.
+     * @return The given builder.
+     * @throws RomanNumeralException If the value is negative or greater than the type's
+     *             maximum value.
+     */
+    public StringBuilder formatTo(int value, StringBuilder out) {
+        return out.append(format(value));
+    }
+
+    private String formatValue(long value) {
+        if (value < 0) {
+            throw RomanNumeralException.formatFailure(NumeralErrorKind.NEGATIVE_VALUE,
+                    this.type, value);
+        } else if (value > this.type.getMaxValue()) {
+            throw RomanNumeralException.formatFailure(NumeralErrorKind.NOT_DISPLAYABLE,
+                    this.type, value);
+        }
+        return format((int) value);
+    }
+
+    /**
+     * Formats the given year.
+     *
+     * @param year The year.
+     * @return The numeral.
+     * @throws IllegalArgumentException If year is null.
+     * @throws RomanNumeralException If the year is before year 0 or after the type's
+     *             maximum value.
+     */
+    public String format(Year year) {
+        if (year == null) {
+            throw new IllegalArgumentException("year is null");
+        }
+        return format(year.getValue());
+    }
+
+    /**
+     * Formats the given date as day, month and year, separated by the
+     * {@link #getDateSeparator() date separator}.
+     *
+     * @param date The date.
+     * @return The formatted date.
+     * @throws IllegalArgumentException If date is null.
+     * @throws RomanNumeralException If the year is before year 0 or after the type's
+     *             maximum value.
+     */
+    public String format(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("date is null");
+        }
+        final String day = format(date.getDayOfMonth());
+        final String month = format(date.getMonthValue());
+        final String year = format(date.getYear());
+        return new StringBuilder(day.length() + month.length() + year.length()
+                + 2 * this.dateSeparator.length())
+                        .append(day)
+                        .append(this.dateSeparator)
+                        .append(month)
+                        .append(this.dateSeparator)
+                        .append(year)
+                        .toString();
+    }
+
+    /**
+     * Formats the given date as day, month and year, separated by the
+     * {@link #getDateSeparator() date separator}. The temporal must support the fields
+     * {@link ChronoField#DAY_OF_MONTH}, {@link ChronoField#MONTH_OF_YEAR} and
+     * {@link ChronoField#YEAR}.
+     *
+     * @param temporal The temporal.
+     * @return The formatted date.
+     * @throws IllegalArgumentException If temporal is null.
+     * @throws java.time.DateTimeException If one of the fields is not supported.
+     * @throws RomanNumeralException If the year is before year 0 or after the type's
+     *             maximum value.
+     */
+    public String formatDate(TemporalAccessor temporal) {
+        if (temporal == null) {
+            throw new IllegalArgumentException("temporal is null");
+        }
+        return format(LocalDate.from(temporal));
+    }
+
+    /**
+     * Formats the value of a single field of the given temporal.
+     *
+     * <pre>
+     * formatter.format(LocalTime.of(14, 30), ChronoField.CLOCK_HOUR_OF_AMPM); // II
+     * </pre>
+     *
+     * @param temporal The temporal.
+     * @param field The field to format.
+     * @return The numeral.
+     * @throws IllegalArgumentException If either argument is null.
+     * @throws java.time.DateTimeException If the field is not supported.
+     * @throws RomanNumeralException If the field's value is negative or greater than the
+     *             type's maximum value.
+     */
+    public String format(TemporalAccessor temporal, TemporalField field) {
+        if (temporal == null) {
+            throw new IllegalArgumentException("temporal is null");
+        } else if (field == null) {
+            throw new IllegalArgumentException("field is null");
+        }
+        return formatValue(temporal.getLong(field));
+    }
+
+    /**
+     * Parses the given numeral according to the rules of this formatter's type. Numerals
+     * of every {@link NumeralStyle} are accepted.
+     *
+     * @param text The numeral.
+     * @return The value.
+     * @throws IllegalArgumentException If text is null.
+     * @throws RomanNumeralException If the text is not a valid numeral.
+     */
+    public int parse(CharSequence text) {
+        if (text == null) {
+            throw new IllegalArgumentException(
+                    "Can not parse null value as roman numeral");
+        }
+        final long result = this.type.parsePacked(text, 0, text.length());
+        if (!PackedParseResult.isSuccess(result)) {
+            throw RomanNumeralException.parseFailure(this.type, text.toString(), result);
+        }
+        return PackedParseResult.getValue(result);
+    }
+
+    /**
+     * Parses the given numeral as a year.
+     *
+     * @param text The numeral.
+     * @return The year.
+     * @throws IllegalArgumentException If text is null.
+     * @throws RomanNumeralException If the text is not a valid numeral.
+     * @throws java.time.DateTimeException If the value is greater than
+     *             {@link Year#MAX_VALUE}, which is only possible with
+     *             {@link RomanNumeralType#LENIENT}.
+     */
+    public Year parseYear(CharSequence text) {
+        return Year.of(parse(text));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RomanFormatter[%s, %s]", this.type, this.style);
+    }
+}
@@ -59,6 +59,53 @@ interface RomanLiteralStrategy {
      */
     boolean isIllegalPrefix(Literal prefix, Literal current);
 
+    /**
+     * Returns this strategy's literals and rules, compiled into a state machine which is
+     * used for parsing.
+     *
+     * @return The compiled automaton.
+     */
+    LiteralAutomaton getAutomaton();
+
+    /**
+     * Parses the given region of the given sequence as a single numeral. This uses the
+     * fastest means available to this strategy and falls back to the
+     * {@link #getAutomaton() automaton} if necessary.
+     *
+     * @param s The sequence to read from.
+     * @param from Index of the first character to parse.
+     * @param to Index after the last character to parse.
+     * @return The parse result, packed as described by {@link PackedParseResult}.
+     */
+    long parse(CharSequence s, int from, int to);
+
+    /**
+     * Tests whether the given region of the given sequence forms a valid numeral. Like
+     * {@link #parse(CharSequence, int, int)}, this uses the fastest means available.
+     *
+     * @param s The sequence to read from.
+     * @param from Index of the first character to test.
+     * @param to Index after the last character to test.
+     * @return Whether the region forms a valid numeral.
+     */
+    boolean isValid(CharSequence s, int from, int to);
+
+    /**
+     * Returns this strategy's precomputed tables which are used for formatting.
+     *
+     * @return The format tables.
+     */
+    DigitFormatTable getFormatTable();
+
+    /**
+     * Returns this strategy's precomputed tables for formatting numerals of the given
+     * style.
+     *
+     * @param style The style.
+     * @return The format tables.
+     */
+    DigitFormatTable getFormatTable(NumeralStyle style);
+
     /**
      * Whether this strategy is able to format the int value {@code 0} to a String.
      *
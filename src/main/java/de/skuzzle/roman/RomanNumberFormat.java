@@ -8,14 +8,20 @@ class RomanNumberFormat extends NumberFormat {
 
     private static final long serialVersionUID = -9126248676409239905L;
 
-    private final RomanNumeralType type;
+    private final NumeralType type;
+    private final RomanLiteralStrategy strategy;
 
-    private RomanNumberFormat(RomanNumeralType type) {
+    private RomanNumberFormat(NumeralType type, RomanLiteralStrategy strategy) {
         this.type = type;
+        this.strategy = strategy;
     }
 
     public static NumberFormat getInstance(RomanNumeralType type) {
-        return new RomanNumberFormat(type);
+        return new RomanNumberFormat(type, type.getStrategy());
+    }
+
+    static NumberFormat getInstance(NumeralType type, RomanLiteralStrategy strategy) {
+        return new RomanNumberFormat(type, strategy);
     }
 
     @Override
@@ -27,74 +33,66 @@ class RomanNumberFormat extends NumberFormat {
 
     @Override
     public StringBuffer format(long number, StringBuffer toAppendTo, FieldPosition pos) {
-        format(number, toAppendTo, this.type);
+        final NumeralMetricsListener listener = Instrumentation.getListener();
+        if (listener == null && !NumeralEvents.isActive()) {
+            format(number, toAppendTo, this.type, this.strategy);
+            return toAppendTo;
+        }
+        final long start = Instrumentation.start(listener);
+        final NumeralEvents.FormatEvent event = NumeralEvents.beginFormat();
+        try {
+            format(number, toAppendTo, this.type, this.strategy);
+        } catch (final RomanNumeralException e) {
+            Instrumentation.formatted(listener, this.type, number, e.getKind(), start);
+            NumeralEvents.formatted(event, this.type, number, e.getKind());
+            throw e;
+        }
+        Instrumentation.formatted(listener, this.type, number, null, start);
+        NumeralEvents.formatted(event, this.type, number, null);
         return toAppendTo;
     }
 
-    private void format(long value, StringBuffer b, RomanNumeralType type) {
-        final RomanLiteralStrategy strategy = type.getStrategy();
-        if (value > strategy.getMaxValue()) {
-            throw new IllegalArgumentException(
-                    String.format("'%d' can not be displayed as roman number using '%s'. "
-                            + "The maximum allowed value is '%d'",
-                            value, type, type.getMaxValue()));
+    private void format(long value, StringBuffer b, NumeralType type,
+            RomanLiteralStrategy strategy) {
+        checkDisplayable(value, type);
+        if (value < 0) {
+            throw new IllegalStateException(
+                    "there is no literal to represent the value: " + value);
         }
+        b.append(strategy.getFormatTable().toChars((int) value));
+    }
 
-        long val = value;
-        while (val != 0) {
-            final Literal lit = strategy.findNext(val);
-
-            lit.appendTo(b);
-            val = val - lit.intValue();
+    static void checkDisplayable(long value, NumeralType type) {
+        if (value > type.getMaxValue()) {
+            throw RomanNumeralException.formatFailure(NumeralErrorKind.NOT_DISPLAYABLE,
+                    type, value);
         }
     }
 
     @Override
     public Number parse(String source, ParsePosition parsePosition) {
-        return parse(source, parsePosition, this.type);
+        final NumeralMetricsListener listener = Instrumentation.getListener();
+        final long start = Instrumentation.start(listener);
+        final NumeralEvents.ParseEvent event = NumeralEvents.beginParse();
+        final long result = parse(source, parsePosition, this.strategy);
+        Instrumentation.parsed(listener, this.type, source.length(), result, start);
+        NumeralEvents.parsed(event, this.type, source.length(), result);
+        return PackedParseResult.isSuccess(result)
+                ? PackedParseResult.getValue(result)
+                : -1;
     }
 
-    private int parse(String s, ParsePosition position, RomanNumeralType type) {
+    private long parse(String s, ParsePosition position, RomanLiteralStrategy strategy) {
         if (s == null) {
             throw new IllegalArgumentException(
                     "Can not parse null value as roman numeral");
         }
-        final RomanLiteralStrategy strategy = type.getStrategy();
-        final int initialIdx = position.getIndex();
-        final char[] stream = s.toCharArray();
-        int sum = 0;
-        int consecutives = 0;
-        Literal last = null;
-        int lastPos = -1;
-
-        while (position.getIndex() < stream.length) {
-            final Literal lit = strategy.findNext(stream, position);
-            if (position.getErrorIndex() != -1) {
-                position.setIndex(initialIdx);
-                return -1;
-            }
-
-            if (last != null) {
-                if (strategy.isIllegalPrefix(last, lit)) {
-                    position.setErrorIndex(lastPos - last.length());
-                    position.setIndex(initialIdx);
-                    return -1;
-                } else if (last.intValue() == lit.intValue()) {
-                    ++consecutives;
-                    if (consecutives == strategy.getMaxSameConsecutive(lit)) {
-                        position.setErrorIndex(position.getIndex() - lit.length());
-                        position.setIndex(initialIdx);
-                        return -1;
-                    }
-                } else {
-                    consecutives = 0;
-                }
-            }
-            last = lit;
-            lastPos = position.getIndex();
-            sum += lit.intValue();
+        final long result = strategy.parse(s, position.getIndex(), s.length());
+        if (!PackedParseResult.isSuccess(result)) {
+            position.setErrorIndex(PackedParseResult.getErrorIndex(result));
+        } else {
+            position.setIndex(s.length());
         }
-
-        return sum;
+        return result;
     }
 }
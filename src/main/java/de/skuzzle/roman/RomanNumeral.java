@@ -0,0 +1,158 @@
+package de.skuzzle.roman;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Immutable value object for a number which is displayed as roman numeral. Instances for
+ * every value up to the maximum value of {@link RomanNumeralType#SINGLE_SUBTRACT} are
+ * interned, so {@link #of(int)} returns the same instance for the same value. Each
+ * instance lazily caches its numeral per {@link RomanNumeralType}, so repeatedly
+ * displaying the same value only reads a field.
+ *
+ * <pre>
+ * final RomanNumeral numeral = RomanNumeral.of(1999);
+ * numeral.toString(); // MCMXCIX
+ * numeral.toString(RomanNumeralType.LENIENT); // MIM
+ * </pre>
+ *
+ * @author Simon Taddiken
+ */
+public final class RomanNumeral extends Number implements Comparable<RomanNumeral> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final RomanNumeralType[] TYPES = RomanNumeralType.values();
+    private static final AtomicReferenceArray<RomanNumeral> INTERNED =
+            new AtomicReferenceArray<>(RomanNumeralType.SINGLE_SUBTRACT.getMaxValue() + 1);
+
+    private final int value;
+    /** The numeral per type, indexed by the type's ordinal. Filled lazily. */
+    private final transient String[] numerals;
+
+    private RomanNumeral(int value) {
+        this.value = value;
+        this.numerals = new String[TYPES.length];
+    }
+
+    /**
+     * Returns the numeral for the given value.
+     *
+     * @param value The value.
+     * @return The numeral. Always the same instance for values up to the maximum value
+     *         of {@link RomanNumeralType#SINGLE_SUBTRACT}.
+     * @throws IllegalArgumentException If the value is negative or greater than the
+     *             maximum value of {@link RomanNumeralType#LENIENT}, which is the type
+     *             with the widest range.
+     */
+    public static RomanNumeral of(int value) {
+        if (value < 0 || value > RomanNumeralType.LENIENT.getMaxValue()) {
+            throw new IllegalArgumentException(String.format(
+                    "%d can not be displayed as roman numeral", value));
+        } else if (value >= INTERNED.length()) {
+            return new RomanNumeral(value);
+        }
+        final RomanNumeral interned = INTERNED.get(value);
+        if (interned != null) {
+            return interned;
+        }
+        final RomanNumeral created = new RomanNumeral(value);
+        return INTERNED.compareAndSet(value, null, created)
+                ? created
+                : INTERNED.get(value);
+    }
+
+    /**
+     * Parses the given String according to the rules of the given type.
+     *
+     * @param s The String to parse.
+     * @param type The type.
+     * @return The numeral.
+     * @throws IllegalArgumentException If type or String is null or the String is not a
+     *             valid numeral of the given type.
+     */
+    public static RomanNumeral parse(String s, RomanNumeralType type) {
+        if (type == null) {
+            throw new IllegalArgumentException("type is null");
+        }
+        return of(type.parse(s));
+    }
+
+    @Override
+    public int intValue() {
+        return this.value;
+    }
+
+    @Override
+    public long longValue() {
+        return this.value;
+    }
+
+    @Override
+    public float floatValue() {
+        return this.value;
+    }
+
+    @Override
+    public double doubleValue() {
+        return this.value;
+    }
+
+    /**
+     * Returns the numeral as displayed by the given type. The result is cached for every
+     * {@link RomanNumeralType}.
+     *
+     * @param type The type.
+     * @return The numeral.
+     * @throws IllegalArgumentException If type is null.
+     * @throws RomanNumeralException If the type can not display this numeral's value.
+     */
+    public String toString(NumeralType type) {
+        if (type == null) {
+            throw new IllegalArgumentException("type is null");
+        } else if (!(type instanceof RomanNumeralType)) {
+            return type.format(this.value);
+        }
+        final int idx = ((RomanNumeralType) type).ordinal();
+        String result = this.numerals[idx];
+        if (result == null) {
+            // racy but benign: Strings are immutable and formatting is deterministic
+            result = type.format(this.value);
+            this.numerals[idx] = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the numeral as displayed by {@link RomanNumeralType#SINGLE_SUBTRACT} or, if
+     * the value is too big, by {@link RomanNumeralType#LENIENT}.
+     *
+     * @return The numeral.
+     */
+    @Override
+    public String toString() {
+        return this.value <= RomanNumeralType.SINGLE_SUBTRACT.getMaxValue()
+                ? toString(RomanNumeralType.SINGLE_SUBTRACT)
+                : toString(RomanNumeralType.LENIENT);
+    }
+
+    @Override
+    public int compareTo(RomanNumeral o) {
+        return Integer.compare(this.value, o.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.value;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj == this || obj instanceof RomanNumeral
+                && this.value == ((RomanNumeral) obj).value;
+    }
+
+    private Object readResolve() {
+        // restores the interned instance as well as the transient cache
+        return of(this.value);
+    }
+}
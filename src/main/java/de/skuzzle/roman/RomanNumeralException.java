@@ -0,0 +1,130 @@
+package de.skuzzle.roman;
+
+/**
+ * Thrown by the parse and format methods of {@link NumeralType NumeralTypes} and their
+ * {@link java.text.NumberFormat NumberFormats} if a value can not be converted. Besides the
+ * {@link #getKind() kind} of the error, the exception only stores references to the
+ * offending input. The message is not built until it is first requested, so throwing
+ * and catching this exception is cheap.
+ *
+ * <p>
+ * Filling in the stack trace usually dominates the cost of creating an exception. It can
+ * be disabled globally by setting the system property
+ * {@code asterix.STACKLESS_EXCEPTIONS} to {@code true}. Callers which need to avoid
+ * exceptions completely may use the packed parse methods like
+ * {@link RomanNumeralType#parsePacked(CharSequence, int, int)} instead.
+ * </p>
+ *
+ * @author Simon Taddiken
+ */
+public class RomanNumeralException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = 4155234781268823312L;
+
+    private final NumeralErrorKind kind;
+    private final NumeralType type;
+    private final String input;
+    private final long value;
+    private final int errorIndex;
+    private String message;
+
+    private RomanNumeralException(NumeralErrorKind kind, NumeralType type,
+            String input, long value, int errorIndex) {
+        super(null, null);
+        this.kind = kind;
+        this.type = type;
+        this.input = input;
+        this.value = value;
+        this.errorIndex = errorIndex;
+    }
+
+    static RomanNumeralException parseFailure(NumeralType type, String input,
+            long result) {
+        return new RomanNumeralException(PackedParseResult.getErrorKind(result), type,
+                input, -1, PackedParseResult.getErrorIndex(result));
+    }
+
+    static RomanNumeralException formatFailure(NumeralErrorKind kind,
+            NumeralType type, long value) {
+        return new RomanNumeralException(kind, type, null, value, -1);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return Settings.STACKLESS_EXCEPTIONS
+                ? this
+                : super.fillInStackTrace();
+    }
+
+    /**
+     * The kind of this error.
+     *
+     * @return The kind.
+     */
+    public NumeralErrorKind getKind() {
+        return this.kind;
+    }
+
+    /**
+     * The type which has been used for parsing or formatting.
+     *
+     * @return The type.
+     */
+    public NumeralType getType() {
+        return this.type;
+    }
+
+    /**
+     * The String which could not be parsed or {@code null} if this exception denotes a
+     * format error or the input has been parsed incrementally by an
+     * {@link IncrementalNumeralParser}.
+     *
+     * @return The input.
+     */
+    public String getInput() {
+        return this.input;
+    }
+
+    /**
+     * The index of the character at which parsing failed or {@code -1} if this exception
+     * denotes a format error.
+     *
+     * @return The error index.
+     */
+    public int getErrorIndex() {
+        return this.errorIndex;
+    }
+
+    @Override
+    public String getMessage() {
+        String result = this.message;
+        if (result == null) {
+            result = buildMessage();
+            this.message = result;
+        }
+        return result;
+    }
+
+    private String buildMessage() {
+        switch (this.kind) {
+        case NEGATIVE_VALUE:
+            return String.format("'%d' can not be displayed as roman number",
+                    this.value);
+        case NOT_DISPLAYABLE:
+            return String.format("'%d' can not be displayed as roman number using '%s'. "
+                    + "The maximum allowed value is '%d'",
+                    this.value, this.type, this.type.getMaxValue());
+        default:
+            if (this.input == null) {
+                return String.format(
+                        "Input can not be parsed as a roman numeral according to the "
+                                + "type '%s': %s at index %d",
+                        this.type, this.kind.getDescription(), this.errorIndex);
+            }
+            return String.format(
+                    "'%s' can not be parsed as a roman numeral according to the type "
+                            + "'%s': %s at index %d",
+                    this.input, this.type, this.kind.getDescription(), this.errorIndex);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package de.skuzzle.roman;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+
+/**
+ * Finds and parses every roman numeral which is embedded in a text. A numeral is a whole
+ * word (a maximal run of letters and digits) that is made up of roman literals only and
+ * that forms a valid numeral according to the rules of a {@link RomanNumeralType}. Words
+ * which merely contain literals, like {@code MIXED}, are skipped.
+ *
+ * <p>
+ * Text is consumed in a single pass. When reading from a {@link Reader}, the input is
+ * read in chunks of fixed size and numerals which span the boundary of two chunks are
+ * recognized as well. Memory consumption is thus bounded by the chunk size plus the
+ * maximum numeral length, regardless of the size of the text.
+ * </p>
+ *
+ * <p>
+ * Instances are immutable and may be shared between threads. Note that every valid
+ * numeral is reported, including single letter words like {@code I}. Unicode roman
+ * numerals are recognized as well, but lower case ASCII letters are not, as they would
+ * match too many ordinary words.
+ * </p>
+ *
+ * <pre>
+ * RomanNumeralType.SINGLE_SUBTRACT.getScanner().scan(reader,
+ *         (start, end, value) -&gt; System.out.println(start + ": " + value));
+ * </pre>
+ *
+ * @author Simon Taddiken
+ */
+public final class RomanNumeralScanner {
+
+    /**
+     * Callback which is notified about every numeral found by a
+     * {@link RomanNumeralScanner}.
+     *
+     * @author Simon Taddiken
+     */
+    @FunctionalInterface
+    public interface MatchListener {
+
+        /**
+         * Called for every numeral found.
+         *
+         * @param start Offset of the numeral's first character within the text.
+         * @param end Offset after the numeral's last character within the text.
+         * @param value The value of the numeral.
+         */
+        void onMatch(long start, long end, int value);
+    }
+
+    private static final int DEFAULT_CHUNK_SIZE = 8192;
+    private static final int DEFAULT_MAX_NUMERAL_LENGTH = 1024;
+
+    private final RomanNumeralType type;
+    private final int chunkSize;
+    private final int maxNumeralLength;
+
+    private RomanNumeralScanner(RomanNumeralType type, int chunkSize,
+            int maxNumeralLength) {
+        this.type = type;
+        this.chunkSize = chunkSize;
+        this.maxNumeralLength = maxNumeralLength;
+    }
+
+    /**
+     * Creates a scanner which recognizes numerals according to the given type.
+     *
+     * @param type The type.
+     * @return The scanner.
+     * @throws IllegalArgumentException If type is null.
+     */
+    public static RomanNumeralScanner forType(RomanNumeralType type) {
+        if (type == null) {
+            throw new IllegalArgumentException("type is null");
+        }
+        return new RomanNumeralScanner(type, DEFAULT_CHUNK_SIZE,
+                DEFAULT_MAX_NUMERAL_LENGTH);
+    }
+
+    /**
+     * Creates a copy of this scanner which reads {@link Reader} input in chunks of the
+     * given size. Defaults to {@code 8192}.
+     *
+     * @param chunkSize The number of chars to read at once.
+     * @return A new scanner.
+     * @throws IllegalArgumentException If chunkSize is not positive.
+     */
+    public RomanNumeralScanner withChunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        return new RomanNumeralScanner(this.type, chunkSize, this.maxNumeralLength);
+    }
+
+    /**
+     * Creates a copy of this scanner which ignores words that are longer than the given
+     * number of chars. Defaults to {@code 1024}.
+     *
+     * @param maxNumeralLength The maximum length of numerals to recognize.
+     * @return A new scanner.
+     * @throws IllegalArgumentException If maxNumeralLength is not positive.
+     */
+    public RomanNumeralScanner withMaxNumeralLength(int maxNumeralLength) {
+        if (maxNumeralLength <= 0) {
+            throw new IllegalArgumentException("maxNumeralLength must be positive");
+        }
+        return new RomanNumeralScanner(this.type, this.chunkSize, maxNumeralLength);
+    }
+
+    /**
+     * Reads the given Reader to its end and reports every numeral to the given listener.
+     * The Reader is not closed by this method.
+     *
+     * @param reader The text to scan.
+     * @param listener The listener to notify.
+     * @throws IOException If reading fails.
+     */
+    public void scan(Reader reader, MatchListener listener) throws IOException {
+        final Scan scan = new Scan(listener);
+        final char[] chunk = new char[this.chunkSize];
+        int read;
+        while ((read = reader.read(chunk)) != -1) {
+            for (int i = 0; i < read; ++i) {
+                scan.accept(chunk[i]);
+            }
+        }
+        scan.finish();
+    }
+
+    /**
+     * Scans the given text and reports every numeral to the given listener. The text is
+     * read in place, so this is the method of choice for in-memory text like a
+     * {@link CharBuffer} wrapping a memory mapped file. Offsets are reported relative to
+     * the start of the sequence.
+     *
+     * @param text The text to scan.
+     * @param listener The listener to notify.
+     */
+    public void scan(CharSequence text, MatchListener listener) {
+        final Scan scan = new Scan(listener);
+        final int length = text.length();
+        for (int i = 0; i < length; ++i) {
+            scan.accept(text.charAt(i));
+        }
+        scan.finish();
+    }
+
+    /**
+     * The state of a single scan. Characters of the current word are collected in a
+     * buffer of bounded size as long as the word could still be a numeral.
+     */
+    private final class Scan {
+
+        private final MatchListener listener;
+        private final LiteralAutomaton automaton;
+        private final char[] word;
+        private final CharBuffer wordView;
+
+        private long offset;
+        private long wordStart;
+        private int wordLength;
+        private boolean inWord;
+        private boolean candidate;
+
+        private Scan(MatchListener listener) {
+            this.listener = listener;
+            this.automaton = RomanNumeralScanner.this.type.getStrategy().getAutomaton();
+            this.word = new char[RomanNumeralScanner.this.maxNumeralLength];
+            this.wordView = CharBuffer.wrap(this.word);
+        }
+
+        private void accept(char c) {
+            if (Character.isLetterOrDigit(c) || isNumeralChar(c)) {
+                if (!this.inWord) {
+                    this.inWord = true;
+                    this.candidate = true;
+                    this.wordStart = this.offset;
+                    this.wordLength = 0;
+                }
+                if (this.candidate) {
+                    if (!isNumeralChar(c) || this.wordLength == this.word.length) {
+                        this.candidate = false;
+                    } else {
+                        this.word[this.wordLength++] = c;
+                    }
+                }
+            } else if (this.inWord) {
+                endWord();
+            }
+            ++this.offset;
+        }
+
+        private boolean isNumeralChar(char c) {
+            // lower case letters are not considered because too many ordinary words,
+            // like 'mix' or 'did', would be reported as numerals
+            return (c < 'a' || c > 'z')
+                    && (LiteralAutomaton.charClass(c) >= 0
+                            || LiteralAutomaton.isCompound(c));
+        }
+
+        private void finish() {
+            if (this.inWord) {
+                endWord();
+            }
+        }
+
+        private void endWord() {
+            this.inWord = false;
+            if (!this.candidate) {
+                return;
+            }
+            final long result = this.automaton.parse(this.wordView, 0, this.wordLength);
+            if (PackedParseResult.isSuccess(result)) {
+                this.listener.onMatch(this.wordStart, this.offset,
+                        PackedParseResult.getValue(result));
+            }
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package de.skuzzle.roman;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.text.NumberFormat;
 import java.text.ParseException;
-import java.text.ParsePosition;
+import java.util.BitSet;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
 /**
  * Represents the way in which a roman numeral is represented. This has influence on
@@ -17,7 +21,7 @@ import java.util.OptionalInt;
  *
  * @author Simon Taddiken
  */
-public enum RomanNumeralType {
+public enum RomanNumeralType implements NumeralType {
 
     /**
      * This type is the one which is mostly used in modern times. It allows to place some
@@ -92,9 +96,12 @@ public enum RomanNumeralType {
     LENIENT(LenientStrategy.INSTANCE);
 
     private final RomanLiteralStrategy strategy;
+    private final FormatCache formatCache;
+    private volatile AsciiFormatTable asciiFormatTable;
 
     private RomanNumeralType(RomanLiteralStrategy strategy) {
         this.strategy = strategy;
+        this.formatCache = FormatCache.forType(this);
     }
 
     RomanLiteralStrategy getStrategy() {
@@ -119,18 +126,115 @@ public enum RomanNumeralType {
      * numerals using this numeral type. The returned {@link NumberFormat} instance will
      * not be able to format values greater than the one returned by
      * {@link #getMaxValue()}. An exception will be thrown by {@code format(...)} if such
-     * a value is encountered.
+     * a value is encountered. Like every {@link NumberFormat}, the instance is mutable
+     * and must not be shared between threads. Use a {@link RomanFormatter} instead.
      *
      * @return A new number format instance.
+     * @see RomanFormatter
      */
     public NumberFormat getNumberFormat() {
         return RomanNumberFormat.getInstance(this);
     }
 
+    /**
+     * Creates a {@link RomanNumeralScanner} which finds all numerals of this type that
+     * are embedded in a text.
+     *
+     * @return A scanner with default settings.
+     */
+    public RomanNumeralScanner getScanner() {
+        return RomanNumeralScanner.forType(this);
+    }
+
+    /**
+     * Returns a stream of the values of all whitespace separated numerals within the
+     * given text. See {@link #numerals(CharSequence, String)} for details.
+     *
+     * @param text The text to read from.
+     * @return A stream of the parsed values.
+     * @throws IllegalArgumentException If the text is null.
+     */
+    public IntStream numerals(CharSequence text) {
+        return numerals(text, null);
+    }
+
+    /**
+     * Returns a stream of the values of all numerals within the given text which are
+     * separated by any of the given delimiter characters. Subsequent delimiters are
+     * treated as a single one. Numerals are parsed lazily and in place, without
+     * splitting the text into Strings. The stream's spliterator splits the text at
+     * delimiters, so parsing a large text is spread across cores if the stream is made
+     * {@link IntStream#parallel() parallel}.
+     *
+     * <p>
+     * The text must not be modified while the stream is being consumed. If a token does
+     * not form a valid numeral of this type, the stream's terminal operation throws a
+     * {@link RomanNumeralException} which reports the token and the error index within
+     * it.
+     * </p>
+     *
+     * @param text The text to read from.
+     * @param delimiters The characters which separate numerals. If {@code null},
+     *            numerals are separated by {@link Character#isWhitespace(char)
+     *            whitespace}.
+     * @return A stream of the parsed values.
+     * @throws IllegalArgumentException If the text is null.
+     */
+    public IntStream numerals(CharSequence text, String delimiters) {
+        if (text == null) {
+            throw new IllegalArgumentException("text is null");
+        }
+        return StreamSupport.intStream(
+                NumeralSpliterator.of(this, this.strategy, text, delimiters), false);
+    }
+
+    /**
+     * Determines the index of the first byte within the given region which is not an
+     * ASCII encoded roman literal character of either case. Eight bytes are tested per
+     * step, so this is a cheap way of rejecting garbage before parsing. The byte oriented
+     * parse methods apply this check to long regions on their own.
+     *
+     * @param b The bytes to test.
+     * @param from Index of the first byte to test.
+     * @param to Index after the last byte to test.
+     * @return The index of the first invalid byte or {@code -1} if all bytes are valid.
+     * @throws IllegalArgumentException If the array is null.
+     * @throws IndexOutOfBoundsException If the region is not within the bounds of the
+     *             array.
+     */
+    public static int indexOfNonLiteral(byte[] b, int from, int to) {
+        if (b == null) {
+            throw new IllegalArgumentException("b is null");
+        }
+        checkRegion(from, to, b.length);
+        return AsciiLiterals.indexOfNonLiteral(b, from, to);
+    }
+
+    /**
+     * Determines the index of the first byte within the given region of the given buffer
+     * which is not an ASCII encoded roman literal character of either case. Works like
+     * {@link #indexOfNonLiteral(byte[], int, int)}. The buffer is read using absolute
+     * indices, so its position and limit are not modified.
+     *
+     * @param b The buffer to test.
+     * @param from Absolute index of the first byte to test.
+     * @param to Absolute index after the last byte to test.
+     * @return The index of the first invalid byte or {@code -1} if all bytes are valid.
+     * @throws IllegalArgumentException If the buffer is null.
+     * @throws IndexOutOfBoundsException If the region is not within the buffer's limit.
+     */
+    public static int indexOfNonLiteral(ByteBuffer b, int from, int to) {
+        if (b == null) {
+            throw new IllegalArgumentException("b is null");
+        }
+        checkRegion(from, to, b.limit());
+        return AsciiLiterals.indexOfNonLiteral(b, from, to);
+    }
+
     /**
      * Parses the given String as a roman numeral using the current type. If the String
-     * does not comply with the rules of this type, a {@link IllegalArgumentException} is
-     * thrown.
+     * does not comply with the rules of this type, a {@link RomanNumeralException} is
+     * thrown which describes the kind and position of the error.
      *
      * @param s The String to parse.
      * @return The resulting int value.
@@ -139,9 +243,16 @@ public enum RomanNumeralType {
      *             roman numeral of this numer type.
      */
     public int parse(String s) {
-        return tryParse(s).orElseThrow(() -> new IllegalArgumentException(String.format(
-                "'%s' can not be parsed as a roman numeral according to the type '%s'", s,
-                this)));
+        final NumeralMetricsListener listener = Instrumentation.getListener();
+        final long start = Instrumentation.start(listener);
+        final NumeralEvents.ParseEvent event = NumeralEvents.beginParse();
+        final long result = parsePacked(s);
+        Instrumentation.parsed(listener, this, s.length(), result, start);
+        NumeralEvents.parsed(event, this, s.length(), result);
+        if (!PackedParseResult.isSuccess(result)) {
+            throw RomanNumeralException.parseFailure(this, s, result);
+        }
+        return PackedParseResult.getValue(result);
     }
 
     /**
@@ -154,28 +265,514 @@ public enum RomanNumeralType {
      * @throws IllegalArgumentException If the String is null.
      */
     public OptionalInt tryParse(String s) {
-        final NumberFormat nf = RomanNumberFormat.getInstance(this);
-        final ParsePosition ps = new ParsePosition(0);
-        final int result = nf.parse(s, ps).intValue();
-        if (ps.getIndex() == 0) {
-            return OptionalInt.empty();
+        final NumeralMetricsListener listener = Instrumentation.getListener();
+        final long start = Instrumentation.start(listener);
+        final NumeralEvents.ParseEvent event = NumeralEvents.beginParse();
+        final long result = parsePacked(s);
+        Instrumentation.parsed(listener, this, s.length(), result, start);
+        NumeralEvents.parsed(event, this, s.length(), result);
+        return PackedParseResult.isSuccess(result)
+                ? OptionalInt.of(PackedParseResult.getValue(result))
+                : OptionalInt.empty();
+    }
+
+    private long parsePacked(String s) {
+        if (s == null) {
+            throw new IllegalArgumentException(
+                    "Can not parse null value as roman numeral");
+        }
+        return parsePacked(s, 0, s.length());
+    }
+
+    /**
+     * Parses the given region of the given character sequence as a roman numeral using
+     * the rules of this type. The characters are read in place, so this method works
+     * without copying on any {@link CharSequence} like {@link StringBuilder} or
+     * {@link java.nio.CharBuffer}. No objects are allocated.
+     *
+     * @param s The sequence to read from.
+     * @param from Index of the first character of the numeral.
+     * @param to Index after the last character of the numeral.
+     * @return The parsed value or {@code -1} if the region does not form a valid roman
+     *         numeral of this type.
+     * @throws IllegalArgumentException If the sequence is null.
+     * @throws IndexOutOfBoundsException If the region is not within the bounds of the
+     *             sequence.
+     * @see #parsePacked(CharSequence, int, int)
+     */
+    public int parseInt(CharSequence s, int from, int to) {
+        final long result = parsePacked(s, from, to);
+        return PackedParseResult.isSuccess(result)
+                ? PackedParseResult.getValue(result)
+                : -1;
+    }
+
+    /**
+     * Parses the given region of the given character sequence as a roman numeral using
+     * the rules of this type. Works like {@link #parseInt(CharSequence, int, int)} but
+     * additionally reports the index at which parsing failed. The result is packed into
+     * a single {@code long} and can be decoded using {@link PackedParseResult}.
+     *
+     * @param s The sequence to read from.
+     * @param from Index of the first character of the numeral.
+     * @param to Index after the last character of the numeral.
+     * @return The packed parse result.
+     * @throws IllegalArgumentException If the sequence is null.
+     * @throws IndexOutOfBoundsException If the region is not within the bounds of the
+     *             sequence.
+     */
+    public long parsePacked(CharSequence s, int from, int to) {
+        if (s == null) {
+            throw new IllegalArgumentException(
+                    "Can not parse null value as roman numeral");
+        }
+        checkRegion(from, to, s.length());
+        return this.strategy.parse(s, from, to);
+    }
+
+    /**
+     * Tests whether the given sequence forms a valid roman numeral according to the rules
+     * of this type. The result is the same as testing whether {@link #tryParse(String)}
+     * would yield a value, but the value is never computed and no objects are
+     * allocated.
+     *
+     * @param s The sequence to test.
+     * @return Whether the sequence is a valid numeral of this type.
+     * @throws IllegalArgumentException If the sequence is null.
+     */
+    public boolean isValid(CharSequence s) {
+        if (s == null) {
+            throw new IllegalArgumentException(
+                    "Can not parse null value as roman numeral");
+        }
+        return this.strategy.isValid(s, 0, s.length());
+    }
+
+    /**
+     * Tests whether the given region of the given sequence forms a valid roman numeral
+     * according to the rules of this type. Works like {@link #isValid(CharSequence)}.
+     *
+     * @param s The sequence to read from.
+     * @param from Index of the first character to test.
+     * @param to Index after the last character to test.
+     * @return Whether the region is a valid numeral of this type.
+     * @throws IllegalArgumentException If the sequence is null.
+     * @throws IndexOutOfBoundsException If the region is not within the bounds of the
+     *             sequence.
+     */
+    public boolean isValid(CharSequence s, int from, int to) {
+        if (s == null) {
+            throw new IllegalArgumentException(
+                    "Can not parse null value as roman numeral");
+        }
+        checkRegion(from, to, s.length());
+        return this.strategy.isValid(s, from, to);
+    }
+
+    /**
+     * Creates a parser which accepts a numeral of this type in slices, e.g. when it is
+     * split across the buffers of a network protocol. The parser yields exactly the same
+     * results as {@link #parsePacked(CharSequence, int, int)} for the concatenated input
+     * and can be reused for any number of numerals.
+     *
+     * @return A new parser.
+     */
+    @Override
+    public IncrementalNumeralParser newIncrementalParser() {
+        return new IncrementalNumeralParser(this, this.strategy.getAutomaton());
+    }
+
+    /**
+     * Parses the given region of the given array of ASCII encoded characters as a roman
+     * numeral using the rules of this type. This allows to parse numerals directly from
+     * raw input without decoding them into a String first. No objects are allocated.
+     *
+     * @param b The bytes to read from.
+     * @param from Index of the first byte of the numeral.
+     * @param to Index after the last byte of the numeral.
+     * @return The parsed value or {@code -1} if the region does not form a valid roman
+     *         numeral of this type.
+     * @throws IllegalArgumentException If the array is null.
+     * @throws IndexOutOfBoundsException If the region is not within the bounds of the
+     *             array.
+     */
+    public int parseInt(byte[] b, int from, int to) {
+        final long result = parsePacked(b, from, to);
+        return PackedParseResult.isSuccess(result)
+                ? PackedParseResult.getValue(result)
+                : -1;
+    }
+
+    /**
+     * Parses the given region of the given array of ASCII encoded characters as a roman
+     * numeral using the rules of this type. Works like
+     * {@link #parseInt(byte[], int, int)} but additionally reports the index at which
+     * parsing failed. The result can be decoded using {@link PackedParseResult}.
+     *
+     * @param b The bytes to read from.
+     * @param from Index of the first byte of the numeral.
+     * @param to Index after the last byte of the numeral.
+     * @return The packed parse result.
+     * @throws IllegalArgumentException If the array is null.
+     * @throws IndexOutOfBoundsException If the region is not within the bounds of the
+     *             array.
+     */
+    public long parsePacked(byte[] b, int from, int to) {
+        if (b == null) {
+            throw new IllegalArgumentException(
+                    "Can not parse null value as roman numeral");
+        }
+        checkRegion(from, to, b.length);
+        return this.strategy.getAutomaton().parse(b, from, to);
+    }
+
+    /**
+     * Parses the given region of the given buffer of ASCII encoded characters as a roman
+     * numeral using the rules of this type. The region is specified using absolute
+     * indices and the buffer's position and limit are left untouched. Both heap and
+     * direct buffers are read in place, which allows to parse from memory mapped files
+     * and socket buffers without copying. No objects are allocated.
+     *
+     * @param b The buffer to read from.
+     * @param from Absolute index of the first byte of the numeral.
+     * @param to Absolute index after the last byte of the numeral.
+     * @return The parsed value or {@code -1} if the region does not form a valid roman
+     *         numeral of this type.
+     * @throws IllegalArgumentException If the buffer is null.
+     * @throws IndexOutOfBoundsException If the region is not within the buffer's limit.
+     */
+    public int parseInt(ByteBuffer b, int from, int to) {
+        final long result = parsePacked(b, from, to);
+        return PackedParseResult.isSuccess(result)
+                ? PackedParseResult.getValue(result)
+                : -1;
+    }
+
+    /**
+     * Parses the given region of the given buffer of ASCII encoded characters as a roman
+     * numeral using the rules of this type. Works like
+     * {@link #parseInt(ByteBuffer, int, int)} but additionally reports the absolute index
+     * at which parsing failed. The result can be decoded using {@link PackedParseResult}.
+     *
+     * @param b The buffer to read from.
+     * @param from Absolute index of the first byte of the numeral.
+     * @param to Absolute index after the last byte of the numeral.
+     * @return The packed parse result.
+     * @throws IllegalArgumentException If the buffer is null.
+     * @throws IndexOutOfBoundsException If the region is not within the buffer's limit.
+     */
+    public long parsePacked(ByteBuffer b, int from, int to) {
+        if (b == null) {
+            throw new IllegalArgumentException(
+                    "Can not parse null value as roman numeral");
+        }
+        checkRegion(from, to, b.limit());
+        return this.strategy.getAutomaton().parse(b, from, to);
+    }
+
+    static void checkRegion(int from, int to, int length) {
+        if (from < 0 || to > length || from > to) {
+            throw new IndexOutOfBoundsException(String.format(
+                    "Illegal region [%d, %d) for input of length %d", from, to, length));
         }
-        return OptionalInt.of(result);
     }
 
     /**
      * Formats the given int value into a roman numeral representation using the rules of this type.
-     *  
+     *
+     * <p>
+     * If the format cache has been enabled by setting the system property
+     * {@code asterix.FORMAT_CACHE_ENABLED} to {@code true}, results for values up to
+     * {@code asterix.FORMAT_CACHE_MAX_VALUE} are served from a table which is built
+     * upon first use. The returned Strings are then shared between all callers.
+     * </p>
+     *
      * @param value The value to format.
      * @return The formatted number.
      */
     public String format(int value) {
-        return RomanNumberFormat.getInstance(this).format(value);
+        final NumeralMetricsListener listener = Instrumentation.getListener();
+        if (listener == null && !NumeralEvents.isActive()) {
+            return formatUninstrumented(value);
+        }
+        final long start = Instrumentation.start(listener);
+        final NumeralEvents.FormatEvent event = NumeralEvents.beginFormat();
+        final String result;
+        try {
+            result = formatUninstrumented(value);
+        } catch (final RomanNumeralException e) {
+            Instrumentation.formatted(listener, this, value, e.getKind(), start);
+            NumeralEvents.formatted(event, this, value, e.getKind());
+            throw e;
+        }
+        Instrumentation.formatted(listener, this, value, null, start);
+        NumeralEvents.formatted(event, this, value, null);
+        return result;
+    }
+
+    private String formatUninstrumented(int value) {
+        final String cached = this.formatCache.get(value);
+        if (cached != null) {
+            return cached;
+        }
+        checkFormattable(value);
+        return new String(this.strategy.getFormatTable().toChars(value));
+    }
+
+    /**
+     * Formats the given int value into a roman numeral using the rules of this type. The
+     * numeral is written with the characters of the given style, which are looked up
+     * from precomputed tables as well.
+     *
+     * @param value The value to format.
+     * @param style The style of the numeral's characters.
+     * @return The formatted number.
+     * @throws IllegalArgumentException If the value is negative or greater than
+     *             {@link #getMaxValue()} or if the style is null.
+     */
+    public String format(int value, NumeralStyle style) {
+        if (style == null) {
+            throw new IllegalArgumentException("style is null");
+        } else if (style == NumeralStyle.UPPER_CASE) {
+            return format(value);
+        }
+        final NumeralMetricsListener listener = Instrumentation.getListener();
+        if (listener == null && !NumeralEvents.isActive()) {
+            return formatUninstrumented(value, style);
+        }
+        final long start = Instrumentation.start(listener);
+        final NumeralEvents.FormatEvent event = NumeralEvents.beginFormat();
+        final String result;
+        try {
+            result = formatUninstrumented(value, style);
+        } catch (final RomanNumeralException e) {
+            Instrumentation.formatted(listener, this, value, e.getKind(), start);
+            NumeralEvents.formatted(event, this, value, e.getKind());
+            throw e;
+        }
+        Instrumentation.formatted(listener, this, value, null, start);
+        NumeralEvents.formatted(event, this, value, null);
+        return result;
+    }
+
+    private String formatUninstrumented(int value, NumeralStyle style) {
+        checkFormattable(value);
+        return new String(this.strategy.getFormatTable(style).toChars(value));
+    }
+
+    /**
+     * Formats the given int value into a roman numeral using the rules of this type and
+     * writes it into the given array. Use {@link #formattedLength(int)} or
+     * {@link #maxFormattedLength()} to determine the required space.
+     *
+     * @param value The value to format.
+     * @param dest The array to write to.
+     * @param offset Index within the array at which the first char will be written.
+     * @return The number of chars written.
+     * @throws IllegalArgumentException If the value is negative or greater than
+     *             {@link #getMaxValue()}.
+     * @throws IndexOutOfBoundsException If the numeral does not fit into the array at the
+     *             given offset. In this case, nothing is written.
+     */
+    public int format(int value, char[] dest, int offset) {
+        final int length = formattedLength(value);
+        if (offset < 0 || offset > dest.length - length) {
+            throw new IndexOutOfBoundsException(String.format(
+                    "Numeral of length %d does not fit into array of length %d at "
+                            + "offset %d",
+                    length, dest.length, offset));
+        }
+        return this.strategy.getFormatTable().write(value, dest, offset);
+    }
+
+    /**
+     * Computes the exact number of characters of the numeral which
+     * {@link #format(int)} produces for the given value, without actually formatting it.
+     *
+     * @param value The value.
+     * @return The length of the value's numeral.
+     * @throws IllegalArgumentException If the value is negative or greater than
+     *             {@link #getMaxValue()}.
+     */
+    public int formattedLength(int value) {
+        checkFormattable(value);
+        return this.strategy.getFormatTable().length(value);
+    }
+
+    /**
+     * Returns the length of the longest numeral that this type produces for any value
+     * up to {@link #getMaxValue()}. A buffer of this size can hold the numeral of every
+     * displayable value.
+     *
+     * @return The maximum numeral length.
+     */
+    public int maxFormattedLength() {
+        return this.strategy.getFormatTable().maxLength();
+    }
+
+    /**
+     * Formats the given int value into a roman numeral using the rules of this type and
+     * writes it as ASCII encoded characters into the given array. The numerals are
+     * copied from a table that holds all numerals of this type within a single packed
+     * byte array, which is built upon first use.
+     *
+     * @param value The value to format.
+     * @param dest The array to write to.
+     * @param offset Index within the array at which the first byte will be written.
+     * @return The number of bytes written.
+     * @throws IllegalArgumentException If the value is negative or greater than
+     *             {@link #getMaxValue()}.
+     * @throws IndexOutOfBoundsException If the numeral does not fit into the array at the
+     *             given offset. In this case, nothing is written.
+     */
+    public int format(int value, byte[] dest, int offset) {
+        checkFormattable(value);
+        return getAsciiFormatTable().write(value, dest, offset);
+    }
+
+    /**
+     * Formats the given int value into a roman numeral using the rules of this type and
+     * writes it as ASCII encoded characters into the given buffer, starting at the
+     * buffer's current position. The position will be advanced by the number of bytes
+     * written.
+     *
+     * @param value The value to format.
+     * @param dest The buffer to write to.
+     * @return The number of bytes written.
+     * @throws IllegalArgumentException If the value is negative or greater than
+     *             {@link #getMaxValue()}.
+     * @throws java.nio.BufferOverflowException If the numeral does not fit into the
+     *             buffer's remaining space. In this case, nothing is written.
+     * @throws java.nio.ReadOnlyBufferException If the buffer is read only.
+     */
+    public int format(int value, ByteBuffer dest) {
+        checkFormattable(value);
+        return getAsciiFormatTable().write(value, dest);
+    }
+
+    void checkFormattable(int value) {
+        if (value < 0) {
+            throw RomanNumeralException.formatFailure(NumeralErrorKind.NEGATIVE_VALUE,
+                    this, value);
+        }
+        RomanNumberFormat.checkDisplayable(value, this);
+    }
+
+    AsciiFormatTable getAsciiFormatTable() {
+        AsciiFormatTable result = this.asciiFormatTable;
+        if (result == null) {
+            // racy but benign: the table is immutable and building it is deterministic
+            result = AsciiFormatTable.build(this);
+            this.asciiFormatTable = result;
+        }
+        return result;
+    }
+
+    /**
+     * Parses every element of the given array as a roman numeral using the rules of this
+     * type. The value of the element at index {@code i} is stored in {@code out[i]}. If
+     * an element can not be parsed (or is null), {@code -1} is stored instead and the
+     * element's index is set in the returned bitmap.
+     *
+     * @param in The numerals to parse.
+     * @param out The array to store the values in. Must be at least as long as the
+     *            input.
+     * @return The indices of the elements which could not be parsed.
+     * @throws IllegalArgumentException If the output array is too short.
+     * @see #parseAllParallel(CharSequence[], int[])
+     */
+    public BitSet parseAll(CharSequence[] in, int[] out) {
+        return BatchConversion.parseAll(this, in, out, false);
+    }
+
+    /**
+     * Works like {@link #parseAll(CharSequence[], int[])} but splits large arrays across
+     * the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param in The numerals to parse.
+     * @param out The array to store the values in. Must be at least as long as the
+     *            input.
+     * @return The indices of the elements which could not be parsed.
+     * @throws IllegalArgumentException If the output array is too short.
+     */
+    public BitSet parseAllParallel(CharSequence[] in, int[] out) {
+        return BatchConversion.parseAll(this, in, out, true);
+    }
+
+    /**
+     * Formats every value of the given array into a roman numeral using the rules of this
+     * type and appends them, separated by the given delimiter, to the given
+     * StringBuilder.
+     *
+     * @param in The values to format.
+     * @param delimiter The char to place between two numerals.
+     * @param out The StringBuilder to append to.
+     * @return The given StringBuilder.
+     * @throws IllegalArgumentException If any value is negative or greater than
+     *             {@link #getMaxValue()}. In this case, nothing is appended.
+     * @see #formatAllParallel(int[], char, StringBuilder)
+     */
+    public StringBuilder formatAll(int[] in, char delimiter, StringBuilder out) {
+        return BatchConversion.formatAll(this, in, delimiter, out, false);
+    }
+
+    /**
+     * Works like {@link #formatAll(int[], char, StringBuilder)} but splits large arrays
+     * across the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param in The values to format.
+     * @param delimiter The char to place between two numerals.
+     * @param out The StringBuilder to append to.
+     * @return The given StringBuilder.
+     * @throws IllegalArgumentException If any value is negative or greater than
+     *             {@link #getMaxValue()}. In this case, nothing is appended.
+     */
+    public StringBuilder formatAllParallel(int[] in, char delimiter, StringBuilder out) {
+        return BatchConversion.formatAll(this, in, delimiter, out, true);
+    }
+
+    /**
+     * Formats every value of the given array into a roman numeral using the rules of this
+     * type and writes them, separated by the given delimiter, into the given char array.
+     *
+     * @param in The values to format.
+     * @param delimiter The char to place between two numerals.
+     * @param dest The array to write to.
+     * @param offset Index within the array at which the first char will be written.
+     * @return The number of chars written.
+     * @throws IllegalArgumentException If any value is negative or greater than
+     *             {@link #getMaxValue()}. In this case, nothing is written.
+     * @throws IndexOutOfBoundsException If the numerals do not fit into the array. In
+     *             this case, nothing is written.
+     * @see #formatAllParallel(int[], char, char[], int)
+     */
+    public int formatAll(int[] in, char delimiter, char[] dest, int offset) {
+        return BatchConversion.formatAll(this, in, delimiter, dest, offset, false);
+    }
+
+    /**
+     * Works like {@link #formatAll(int[], char, char[], int)} but splits large arrays
+     * across the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param in The values to format.
+     * @param delimiter The char to place between two numerals.
+     * @param dest The array to write to.
+     * @param offset Index within the array at which the first char will be written.
+     * @return The number of chars written.
+     * @throws IllegalArgumentException If any value is negative or greater than
+     *             {@link #getMaxValue()}. In this case, nothing is written.
+     * @throws IndexOutOfBoundsException If the numerals do not fit into the array. In
+     *             this case, nothing is written.
+     */
+    public int formatAllParallel(int[] in, char delimiter, char[] dest, int offset) {
+        return BatchConversion.formatAll(this, in, delimiter, dest, offset, true);
     }
 
     /**
      * Parses the given String as a roman numeral by applying the rules of this type, then
-     * formats the resulting int value using the given target type.
+     * formats the resulting int value using the given target type. If the String already
+     * is the numeral that the target type would produce for the value, it is returned
+     * as is.
      *
      * @param target The target (output) type.
      * @param romanNumeral The String to parse.
@@ -185,14 +782,186 @@ public enum RomanNumeralType {
      *             parsed value can not be displayed using the target type.
      */
     public String convertTo(RomanNumeralType target, String romanNumeral) {
-        final int parsed = parse(romanNumeral);
-        return target.format(parsed);
+        final NumeralMetricsListener listener = Instrumentation.getListener();
+        if (listener == null && !NumeralEvents.isActive()) {
+            return convertUninstrumented(target, romanNumeral);
+        }
+        final long start = Instrumentation.start(listener);
+        final NumeralEvents.ConvertEvent event = NumeralEvents.beginConvert();
+        final String result;
+        try {
+            result = convertUninstrumented(target, romanNumeral);
+        } catch (final RomanNumeralException e) {
+            Instrumentation.converted(listener, this, target, romanNumeral.length(),
+                    e.getKind(), start);
+            NumeralEvents.converted(event, this, target, romanNumeral.length(),
+                    e.getKind(), e.getErrorIndex());
+            throw e;
+        }
+        Instrumentation.converted(listener, this, target, romanNumeral.length(), null,
+                start);
+        NumeralEvents.converted(event, this, target, romanNumeral.length(), null, -1);
+        return result;
+    }
+
+    private String convertUninstrumented(RomanNumeralType target, String romanNumeral) {
+        final int parsed = parseForConversion(target, romanNumeral);
+        return target.getAsciiFormatTable().isNumeralOf(parsed, romanNumeral, 0,
+                romanNumeral.length())
+                        ? romanNumeral
+                        : target.formatUninstrumented(parsed);
+    }
+
+    /**
+     * Parses the given roman numeral by applying the rules of this type and appends its
+     * representation according to the given target type to the given StringBuilder. The
+     * output is taken from the target type's precomputed numeral table, no intermediate
+     * Strings are created.
+     *
+     * @param target The target (output) type.
+     * @param romanNumeral The numeral to parse.
+     * @param out The StringBuilder to append to.
+     * @return The number of chars appended.
+     * @throws IllegalArgumentException If any argument is null or the given
+     *             romanNumeral can not be parsed according to the current type or the
+     *             parsed value can not be displayed using the target type.
+     */
+    public int convertTo(RomanNumeralType target, CharSequence romanNumeral,
+            StringBuilder out) {
+        try {
+            return convertTo(target, romanNumeral, (Appendable) out);
+        } catch (final IOException e) {
+            // StringBuilder does not throw
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Parses the given roman numeral by applying the rules of this type and appends its
+     * representation according to the given target type to the given Appendable. If the
+     * input already is the numeral that the target type would produce, it is appended
+     * unchanged.
+     *
+     * @param target The target (output) type.
+     * @param romanNumeral The numeral to parse.
+     * @param out The Appendable to append to.
+     * @return The number of chars appended.
+     * @throws IOException If appending fails.
+     * @throws IllegalArgumentException If any argument is null or the given
+     *             romanNumeral can not be parsed according to the current type or the
+     *             parsed value can not be displayed using the target type.
+     */
+    public int convertTo(RomanNumeralType target, CharSequence romanNumeral,
+            Appendable out) throws IOException {
+        final NumeralMetricsListener listener = Instrumentation.getListener();
+        if (listener == null && !NumeralEvents.isActive()) {
+            return convertUninstrumented(target, romanNumeral, out);
+        }
+        final long start = Instrumentation.start(listener);
+        final NumeralEvents.ConvertEvent event = NumeralEvents.beginConvert();
+        final int result;
+        try {
+            result = convertUninstrumented(target, romanNumeral, out);
+        } catch (final RomanNumeralException e) {
+            Instrumentation.converted(listener, this, target, romanNumeral.length(),
+                    e.getKind(), start);
+            NumeralEvents.converted(event, this, target, romanNumeral.length(),
+                    e.getKind(), e.getErrorIndex());
+            throw e;
+        }
+        Instrumentation.converted(listener, this, target, romanNumeral.length(), null,
+                start);
+        NumeralEvents.converted(event, this, target, romanNumeral.length(), null, -1);
+        return result;
+    }
+
+    private int convertUninstrumented(RomanNumeralType target,
+            CharSequence romanNumeral, Appendable out) throws IOException {
+        final int parsed = parseForConversion(target, romanNumeral);
+        if (out == null) {
+            throw new IllegalArgumentException("out is null");
+        }
+        final AsciiFormatTable table = target.getAsciiFormatTable();
+        final int length = romanNumeral.length();
+        if (table.isNumeralOf(parsed, romanNumeral, 0, length)) {
+            out.append(romanNumeral);
+            return length;
+        }
+        return table.appendTo(parsed, out);
+    }
+
+    /**
+     * Parses the given roman numeral by applying the rules of this type and writes its
+     * representation according to the given target type into the given array.
+     *
+     * @param target The target (output) type.
+     * @param romanNumeral The numeral to parse.
+     * @param dest The array to write to.
+     * @param offset Index within the array at which the first char will be written.
+     * @return The number of chars written.
+     * @throws IllegalArgumentException If any argument is null or the given
+     *             romanNumeral can not be parsed according to the current type or the
+     *             parsed value can not be displayed using the target type.
+     * @throws IndexOutOfBoundsException If the result does not fit into the array. In
+     *             this case, nothing is written.
+     */
+    public int convertTo(RomanNumeralType target, CharSequence romanNumeral,
+            char[] dest, int offset) {
+        final NumeralMetricsListener listener = Instrumentation.getListener();
+        if (listener == null && !NumeralEvents.isActive()) {
+            return convertUninstrumented(target, romanNumeral, dest, offset);
+        }
+        final long start = Instrumentation.start(listener);
+        final NumeralEvents.ConvertEvent event = NumeralEvents.beginConvert();
+        final int result;
+        try {
+            result = convertUninstrumented(target, romanNumeral, dest, offset);
+        } catch (final RomanNumeralException e) {
+            Instrumentation.converted(listener, this, target, romanNumeral.length(),
+                    e.getKind(), start);
+            NumeralEvents.converted(event, this, target, romanNumeral.length(),
+                    e.getKind(), e.getErrorIndex());
+            throw e;
+        }
+        Instrumentation.converted(listener, this, target, romanNumeral.length(), null,
+                start);
+        NumeralEvents.converted(event, this, target, romanNumeral.length(), null, -1);
+        return result;
+    }
+
+    private int convertUninstrumented(RomanNumeralType target,
+            CharSequence romanNumeral, char[] dest, int offset) {
+        final int parsed = parseForConversion(target, romanNumeral);
+        if (dest == null) {
+            throw new IllegalArgumentException("dest is null");
+        }
+        return target.getAsciiFormatTable().write(parsed, dest, offset);
+    }
+
+    private int parseForConversion(RomanNumeralType target, CharSequence romanNumeral) {
+        if (target == null) {
+            throw new IllegalArgumentException("target is null");
+        } else if (romanNumeral == null) {
+            throw new IllegalArgumentException(
+                    "Can not parse null value as roman numeral");
+        }
+        final long result = this.strategy.parse(romanNumeral, 0,
+                romanNumeral.length());
+        if (!PackedParseResult.isSuccess(result)) {
+            throw RomanNumeralException.parseFailure(this, romanNumeral.toString(),
+                    result);
+        }
+        final int value = PackedParseResult.getValue(result);
+        target.checkFormattable(value);
+        return value;
     }
 
     /**
      * Tries to parse the given String as a roman numeral by applying the rules of this
      * type. If the String could not be parsed, an empty Optional is returned. Otherwise
-     * the parsed value is formatted using the given target type.
+     * the parsed value is formatted using the given target type. If the String already is
+     * the numeral that the target type would produce for the value, it is returned as
+     * is.
      *
      * @param target The target (output) type.
      * @param romanNumeral The String to parse.
@@ -201,9 +970,38 @@ public enum RomanNumeralType {
      *             not be dispalyed using the target type.
      */
     public Optional<String> tryConvertTo(RomanNumeralType target, String romanNumeral) {
-        final OptionalInt parsed = tryParse(romanNumeral);
-        return parsed.isPresent()
-                ? Optional.of(target.format(parsed.getAsInt()))
-                : Optional.empty();
+        if (target == null) {
+            throw new IllegalArgumentException("target is null");
+        }
+        final NumeralMetricsListener listener = Instrumentation.getListener();
+        final long start = Instrumentation.start(listener);
+        final NumeralEvents.ConvertEvent event = NumeralEvents.beginConvert();
+        final long parsed = parsePacked(romanNumeral);
+        if (!PackedParseResult.isSuccess(parsed)) {
+            Instrumentation.converted(listener, this, target, romanNumeral.length(),
+                    PackedParseResult.getErrorKind(parsed), start);
+            NumeralEvents.converted(event, this, target, romanNumeral.length(),
+                    PackedParseResult.getErrorKind(parsed),
+                    PackedParseResult.getErrorIndex(parsed));
+            return Optional.empty();
+        }
+        final int value = PackedParseResult.getValue(parsed);
+        try {
+            target.checkFormattable(value);
+        } catch (final RomanNumeralException e) {
+            Instrumentation.converted(listener, this, target, romanNumeral.length(),
+                    e.getKind(), start);
+            NumeralEvents.converted(event, this, target, romanNumeral.length(),
+                    e.getKind(), e.getErrorIndex());
+            throw e;
+        }
+        final String result = target.getAsciiFormatTable().isNumeralOf(value,
+                romanNumeral, 0, romanNumeral.length())
+                        ? romanNumeral
+                        : target.formatUninstrumented(value);
+        Instrumentation.converted(listener, this, target, romanNumeral.length(), null,
+                start);
+        NumeralEvents.converted(event, this, target, romanNumeral.length(), null, -1);
+        return Optional.of(result);
     }
 }
@@ -16,6 +16,44 @@ final class Settings {
 
     public static final boolean ALLOW_ZERO = false;
 
+    /**
+     * Whether {@link RomanNumeralType#format(int)} should serve its results from a lazily
+     * built table of precomputed Strings. Defaults to {@code false}.
+     */
+    public static final boolean FORMAT_CACHE_ENABLED = getOrDefault(
+            "asterix.FORMAT_CACHE_ENABLED", false);
+
+    /**
+     * The highest value for which the format cache will hold a precomputed String. This
+     * bounds the memory spent on types which are not naturally bounded. Values above
+     * this limit are formatted as usual. Defaults to {@code 4000}.
+     */
+    public static final int FORMAT_CACHE_MAX_VALUE = getOrDefault(
+            "asterix.FORMAT_CACHE_MAX_VALUE", 4000);
+
+    /**
+     * Whether {@link RomanNumeralException RomanNumeralExceptions} should be created
+     * without filling in their stack trace. Defaults to {@code false}.
+     */
+    public static final boolean STACKLESS_EXCEPTIONS = getOrDefault(
+            "asterix.STACKLESS_EXCEPTIONS", false);
+
+    /**
+     * One in this many operations is timed while a {@link NumeralMetricsListener} is
+     * registered. Defaults to {@code 64}.
+     */
+    public static final int METRICS_SAMPLE_RATE = Math.max(1, getOrDefault(
+            "asterix.METRICS_SAMPLE_RATE", 64));
+
+    /**
+     * Whether the {@link NumeralEvents flight recorder events} should be hooked up to the
+     * flight recorder when they are first used. By default this only happens once the
+     * flight recorder has been initialized, e.g. by starting a recording, as
+     * initializing it is expensive. Defaults to {@code false}.
+     */
+    public static final boolean FLIGHT_RECORDER_EVENTS = getOrDefault(
+            "asterix.FLIGHT_RECORDER_EVENTS", false);
+
     private Settings() {
         // hidden
     }
@@ -34,4 +72,12 @@ final class Settings {
                     key, property));
         }
     }
+
+    private static boolean getOrDefault(String key, boolean defaultValue) {
+        final String property = System.getProperty(key);
+        if (property == null) {
+            return defaultValue;
+        }
+        return Boolean.parseBoolean(property.trim());
+    }
 }
@@ -30,6 +30,11 @@ class SingleSubtractionStrategy extends AbstractRomanLiteralStrategy {
         return 3999;
     }
 
+    @Override
+    protected boolean isPerfectHashEnabled() {
+        return true;
+    }
+
     @Override
     protected Literal[] getLiterals() {
         return LITERALS;
@@ -0,0 +1,31 @@
+package de.skuzzle.roman;
+
+/**
+ * Vectorized validation of ASCII encoded numerals, used by {@link AsciiLiterals} in front
+ * of its own eight byte wide scan. This variant, compiled for Java 8, does not test any
+ * byte. The multi-release jar contains a variant for Java 17 and newer in
+ * {@code META-INF/versions/17}, which tests whole vectors using the incubating Vector API
+ * if the VM has been started with {@code --add-modules jdk.incubator.vector}.
+ *
+ * @author Simon Taddiken
+ */
+final class VectorLiterals {
+
+    private VectorLiterals() {
+        // hidden
+    }
+
+    /**
+     * Skips the bytes at the start of the given region which are known to be roman
+     * literal characters.
+     *
+     * @param b The bytes to test.
+     * @param from Index of the first byte to test.
+     * @param to Index after the last byte to test.
+     * @return The index of the first byte which has not been found to be valid. Either
+     *         an invalid byte or the start of the remainder which has not been tested.
+     */
+    static int skipValid(byte[] b, int from, int to) {
+        return from;
+    }
+}
@@ -0,0 +1,74 @@
+package de.skuzzle.roman;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vectorized validation of ASCII encoded numerals, used by {@link AsciiLiterals} in front
+ * of its own eight byte wide scan. This variant is packaged into
+ * {@code META-INF/versions/17} of the multi-release jar and tests as many bytes at once
+ * as the CPU's preferred vector size allows, using the same case folding as
+ * {@link AsciiLiterals}.
+ *
+ * <p>
+ * The Vector API is an incubator module which is only resolved if the VM has been
+ * started with {@code --add-modules jdk.incubator.vector}. Otherwise this variant does
+ * not test any byte, like the variant for Java 8.
+ * </p>
+ *
+ * @author Simon Taddiken
+ */
+final class VectorLiterals {
+
+    private static final boolean ENABLED = ModuleLayer.boot()
+            .findModule("jdk.incubator.vector")
+            .isPresent();
+
+    private VectorLiterals() {
+        // hidden
+    }
+
+    /**
+     * Skips the bytes at the start of the given region which are known to be roman
+     * literal characters.
+     *
+     * @param b The bytes to test.
+     * @param from Index of the first byte to test.
+     * @param to Index after the last byte to test.
+     * @return The index of the first byte which has not been found to be valid. Either
+     *         an invalid byte or the start of the remainder which has not been tested.
+     */
+    static int skipValid(byte[] b, int from, int to) {
+        return ENABLED
+                ? Vectorized.skipValid(b, from, to)
+                : from;
+    }
+
+    /** Only loaded if the incubator module is present. */
+    private static final class Vectorized {
+
+        private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+        private static final byte CASE_BIT = 0x20;
+
+        private static int skipValid(byte[] b, int from, int to) {
+            final int step = SPECIES.length();
+            int i = from;
+            for (; i <= to - step; i += step) {
+                final ByteVector folded = ByteVector.fromArray(SPECIES, b, i)
+                        .or(CASE_BIT);
+                final VectorMask<Byte> valid = folded.eq((byte) 'i')
+                        .or(folded.eq((byte) 'v'))
+                        .or(folded.eq((byte) 'x'))
+                        .or(folded.eq((byte) 'l'))
+                        .or(folded.eq((byte) 'c'))
+                        .or(folded.eq((byte) 'd'))
+                        .or(folded.eq((byte) 'm'));
+                if (!valid.allTrue()) {
+                    return i + valid.not().firstTrue();
+                }
+            }
+            return i;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package de.skuzzle.roman;
+
+import static org.junit.Assert.assertThat;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.hamcrest.core.Is;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class AsciiFormattingTest {
+
+    @Parameters(name = "ASCII formatting using {0}")
+    public static Iterable<Object[]> parameterFactory() {
+        return Arrays.asList(new Object[][] {
+                { RomanNumeralType.LENIENT },
+                { RomanNumeralType.ADDITIVE },
+                { RomanNumeralType.SINGLE_SUBTRACT },
+                { RomanNumeralType.DOUBLE_SUBTRACT },
+        });
+    }
+
+    private final RomanNumeralType type;
+
+    public AsciiFormattingTest(RomanNumeralType type) {
+        this.type = type;
+    }
+
+    @Test
+    public void testCountToMaxByteArray() throws Exception {
+        final byte[] dest = new byte[this.type.getMaxValue() / 1000 + 32];
+        for (int i = 1; i <= this.type.getMaxValue(); ++i) {
+            final int written = this.type.format(i, dest, 1);
+            final String expected = RomanNumberFormat.getInstance(this.type).format(i);
+            assertThat(new String(dest, 1, written, StandardCharsets.US_ASCII),
+                    Is.is(expected));
+        }
+    }
+
+    @Test
+    public void testHeapBuffer() throws Exception {
+        final ByteBuffer buffer = ByteBuffer.allocate(32);
+        buffer.put((byte) '-');
+        final int written = this.type.format(1984, buffer);
+        assertThat(buffer.position(), Is.is(written + 1));
+        buffer.flip();
+        assertThat(StandardCharsets.US_ASCII.decode(buffer).toString(),
+                Is.is("-" + this.type.format(1984)));
+    }
+
+    @Test
+    public void testDirectBuffer() throws Exception {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(32);
+        this.type.format(2018, buffer);
+        buffer.flip();
+        assertThat(StandardCharsets.US_ASCII.decode(buffer).toString(),
+                Is.is(this.type.format(2018)));
+    }
+
+    @Test
+    public void testBufferOverflowWritesNothing() throws Exception {
+        final ByteBuffer buffer = ByteBuffer.allocate(2);
+        try {
+            this.type.format(3, buffer);
+            Assert.fail("Expected BufferOverflowException being thrown");
+        } catch (final BufferOverflowException e) {
+            assertThat(buffer.position(), Is.is(0));
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testArrayTooSmall() throws Exception {
+        this.type.format(3888, new byte[4], 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegative() throws Exception {
+        this.type.format(-1, new byte[4], 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNotDisplayable() throws Exception {
+        this.type.format(this.type.getMaxValue() + 1, new byte[64], 0);
+    }
+}
@@ -0,0 +1,163 @@
+package de.skuzzle.roman;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class AsciiLiteralsTest {
+
+    private static int scalarIndexOfNonLiteral(byte[] b, int from, int to) {
+        for (int i = from; i < to; ++i) {
+            if (LiteralAutomaton.charClass(b[i] & 0xFF) < 0) {
+                return i;
+            }
+        }
+        return AsciiLiterals.ALL_VALID;
+    }
+
+    private static ByteBuffer direct(byte[] b, ByteOrder order) {
+        final ByteBuffer result = ByteBuffer.allocateDirect(b.length).order(order);
+        result.put(b).clear();
+        return result;
+    }
+
+    @Test
+    public void testEveryByteValueAtEveryPosition() throws Exception {
+        final byte[] b = "MDCLXVImdclxvi--".getBytes(StandardCharsets.US_ASCII);
+        final byte[] valid = "MDCLXVImdclxviMM".getBytes(StandardCharsets.US_ASCII);
+        for (int pos = 0; pos < valid.length; ++pos) {
+            for (int value = 0; value < 256; ++value) {
+                System.arraycopy(valid, 0, b, 0, valid.length);
+                b[pos] = (byte) value;
+                final int expected = scalarIndexOfNonLiteral(b, 0, b.length);
+                assertEquals(expected, AsciiLiterals.indexOfNonLiteral(b, 0, b.length));
+                assertEquals(expected, AsciiLiterals.indexOfNonLiteral(
+                        direct(b, ByteOrder.BIG_ENDIAN), 0, b.length));
+                assertEquals(expected, AsciiLiterals.indexOfNonLiteral(
+                        direct(b, ByteOrder.LITTLE_ENDIAN), 0, b.length));
+            }
+        }
+    }
+
+    @Test
+    public void testRandomRegions() throws Exception {
+        final Random random = new Random(0);
+        final byte[] alphabet = "IVXLCDMivxlcdm".getBytes(StandardCharsets.US_ASCII);
+        final byte[] b = new byte[100];
+        for (int run = 0; run < 10000; ++run) {
+            for (int i = 0; i < b.length; ++i) {
+                b[i] = random.nextInt(50) == 0
+                        ? (byte) random.nextInt(256)
+                        : alphabet[random.nextInt(alphabet.length)];
+            }
+            final int from = random.nextInt(b.length);
+            final int to = from + random.nextInt(b.length - from + 1);
+            assertEquals(scalarIndexOfNonLiteral(b, from, to),
+                    AsciiLiterals.indexOfNonLiteral(b, from, to));
+            assertEquals(scalarIndexOfNonLiteral(b, from, to),
+                    AsciiLiterals.indexOfNonLiteral(direct(b, ByteOrder.BIG_ENDIAN),
+                            from, to));
+        }
+    }
+
+    @Test
+    public void testEveryByteValueInLongRegion() throws Exception {
+        final byte[] valid = new byte[300];
+        final byte[] alphabet = "MDCLXVImdclxvi".getBytes(StandardCharsets.US_ASCII);
+        for (int i = 0; i < valid.length; ++i) {
+            valid[i] = alphabet[i % alphabet.length];
+        }
+        final byte[] b = valid.clone();
+        for (int pos = 0; pos < valid.length; pos += 7) {
+            for (int value = 0; value < 256; ++value) {
+                System.arraycopy(valid, 0, b, 0, valid.length);
+                b[pos] = (byte) value;
+                assertEquals(scalarIndexOfNonLiteral(b, 0, b.length),
+                        AsciiLiterals.indexOfNonLiteral(b, 0, b.length));
+                assertEquals(scalarIndexOfNonLiteral(b, 3, b.length - 5),
+                        AsciiLiterals.indexOfNonLiteral(b, 3, b.length - 5));
+            }
+        }
+    }
+
+    @Test
+    public void testVectorLiteralsSkipsOnlyValidBytes() throws Exception {
+        final Random random = new Random(2);
+        final byte[] alphabet = "IVXLCDMivxlcdm".getBytes(StandardCharsets.US_ASCII);
+        final byte[] b = new byte[200];
+        for (int run = 0; run < 10000; ++run) {
+            for (int i = 0; i < b.length; ++i) {
+                b[i] = random.nextInt(100) == 0
+                        ? (byte) random.nextInt(256)
+                        : alphabet[random.nextInt(alphabet.length)];
+            }
+            final int from = random.nextInt(b.length);
+            final int to = from + random.nextInt(b.length - from + 1);
+            final int skipped = VectorLiterals.skipValid(b, from, to);
+            final int firstInvalid = scalarIndexOfNonLiteral(b, from, to);
+            assertTrue(skipped >= from && skipped <= to);
+            assertTrue(firstInvalid == AsciiLiterals.ALL_VALID
+                    || skipped <= firstInvalid);
+        }
+    }
+
+    @Test
+    public void testSlicedHeapBuffer() throws Exception {
+        final byte[] b = "--MMMMMMMMMMMM?".getBytes(StandardCharsets.US_ASCII);
+        final ByteBuffer buffer = ByteBuffer.wrap(b);
+        buffer.position(2);
+        assertEquals(12, RomanNumeralType.indexOfNonLiteral(buffer.slice(), 0, 13));
+    }
+
+    @Test
+    public void testParseAgreesWithCharSequence() throws Exception {
+        final Random random = new Random(1);
+        final String alphabet = "IVXLCDM";
+        final char[] chars = new char[40];
+        for (final RomanNumeralType type : RomanNumeralType.values()) {
+            for (int run = 0; run < 5000; ++run) {
+                final int length = 16 + random.nextInt(chars.length - 16);
+                for (int i = 0; i < length; ++i) {
+                    chars[i] = alphabet.charAt(random.nextInt(alphabet.length()));
+                }
+                if (random.nextBoolean()) {
+                    chars[random.nextInt(length)] = '-';
+                }
+                final String s = new String(chars, 0, length);
+                final byte[] b = s.getBytes(StandardCharsets.US_ASCII);
+                assertEquals(s, type.parsePacked(s, 0, length),
+                        type.parsePacked(b, 0, length));
+                assertEquals(s, type.parsePacked(s, 0, length),
+                        type.parsePacked(direct(b, ByteOrder.BIG_ENDIAN), 0, length));
+            }
+        }
+    }
+
+    @Test
+    public void testGarbageIsRejectedAtFirstByte() throws Exception {
+        final byte[] b = new byte[64];
+        Arrays.fill(b, (byte) '?');
+        final long result = RomanNumeralType.LENIENT.parsePacked(b, 0, b.length);
+        assertEquals(NumeralErrorKind.UNKNOWN_LITERAL,
+                PackedParseResult.getErrorKind(result));
+        assertEquals(0, PackedParseResult.getErrorIndex(result));
+    }
+
+    @Test
+    public void testAllValid() throws Exception {
+        final byte[] b = "MMMMMMMMmmmmmmmmXIV".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(-1, RomanNumeralType.indexOfNonLiteral(b, 0, b.length));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testIllegalRegion() throws Exception {
+        RomanNumeralType.indexOfNonLiteral(new byte[4], 2, 5);
+    }
+}
@@ -0,0 +1,93 @@
+package de.skuzzle.roman;
+
+import static org.junit.Assert.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.hamcrest.core.Is;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class AsciiParsingTest {
+
+    @Parameters(name = "ASCII parsing using {0}")
+    public static Iterable<Object[]> parameterFactory() {
+        return Arrays.asList(new Object[][] {
+                { RomanNumeralType.LENIENT },
+                { RomanNumeralType.ADDITIVE },
+                { RomanNumeralType.SINGLE_SUBTRACT },
+                { RomanNumeralType.DOUBLE_SUBTRACT },
+        });
+    }
+
+    private final RomanNumeralType type;
+
+    public AsciiParsingTest(RomanNumeralType type) {
+        this.type = type;
+    }
+
+    @Test
+    public void testCountToMaxByteArray() throws Exception {
+        for (int i = 1; i <= this.type.getMaxValue(); ++i) {
+            final byte[] bytes = ascii(" " + this.type.format(i) + " ");
+            assertThat(this.type.parseInt(bytes, 1, bytes.length - 1), Is.is(i));
+        }
+    }
+
+    @Test
+    public void testHeapBuffer() throws Exception {
+        final ByteBuffer buffer = ByteBuffer.wrap(ascii("--XII--"));
+        assertThat(this.type.parseInt(buffer, 2, 5), Is.is(12));
+        assertThat(buffer.position(), Is.is(0));
+    }
+
+    @Test
+    public void testSlicedHeapBuffer() throws Exception {
+        final ByteBuffer buffer = ByteBuffer.wrap(ascii("--XII-A"));
+        buffer.position(2);
+        final ByteBuffer slice = buffer.slice();
+        assertThat(this.type.parseInt(slice, 0, 3), Is.is(12));
+
+        final long result = this.type.parsePacked(slice, 0, 5);
+        assertThat(PackedParseResult.getErrorIndex(result), Is.is(3));
+    }
+
+    @Test
+    public void testDirectBuffer() throws Exception {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(16);
+        buffer.put(ascii("--XII-A"));
+        assertThat(this.type.parseInt(buffer, 2, 5), Is.is(12));
+
+        final long result = this.type.parsePacked(buffer, 2, 7);
+        assertThat(PackedParseResult.getErrorIndex(result), Is.is(5));
+    }
+
+    @Test
+    public void testReadOnlyBuffer() throws Exception {
+        final ByteBuffer buffer = ByteBuffer.wrap(ascii("XII")).asReadOnlyBuffer();
+        assertThat(this.type.parseInt(buffer, 0, 3), Is.is(12));
+    }
+
+    @Test
+    public void testNonAsciiByte() throws Exception {
+        final byte[] bytes = { 'X', (byte) 0xD8, 'I' };
+        final long result = this.type.parsePacked(bytes, 0, bytes.length);
+        assertThat(PackedParseResult.getErrorIndex(result), Is.is(1));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testBeyondLimit() throws Exception {
+        final ByteBuffer buffer = ByteBuffer.wrap(ascii("XII"));
+        buffer.limit(2);
+        this.type.parseInt(buffer, 0, 3);
+    }
+
+    private static byte[] ascii(String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,130 @@
+package de.skuzzle.roman;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.hamcrest.core.Is;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class BatchConversionTest {
+
+    @Parameters(name = "Batch conversion using {0}, parallel: {1}")
+    public static Iterable<Object[]> parameterFactory() {
+        return Arrays.asList(new Object[][] {
+                { RomanNumeralType.LENIENT, false },
+                { RomanNumeralType.ADDITIVE, false },
+                { RomanNumeralType.SINGLE_SUBTRACT, false },
+                { RomanNumeralType.DOUBLE_SUBTRACT, false },
+                { RomanNumeralType.LENIENT, true },
+                { RomanNumeralType.ADDITIVE, true },
+                { RomanNumeralType.SINGLE_SUBTRACT, true },
+                { RomanNumeralType.DOUBLE_SUBTRACT, true },
+        });
+    }
+
+    private final RomanNumeralType type;
+    private final boolean parallel;
+
+    public BatchConversionTest(RomanNumeralType type, boolean parallel) {
+        this.type = type;
+        this.parallel = parallel;
+    }
+
+    private int[] values() {
+        // large enough to be split into multiple tasks
+        final int[] values = new int[BatchConversion.THRESHOLD * 3 + 17];
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = i % this.type.getMaxValue() + 1;
+        }
+        return values;
+    }
+
+    @Test
+    public void testFormatAndParseAll() throws Exception {
+        final int[] values = values();
+        final StringBuilder b = new StringBuilder("prefix;");
+        if (this.parallel) {
+            this.type.formatAllParallel(values, ';', b);
+        } else {
+            this.type.formatAll(values, ';', b);
+        }
+
+        final String[] numerals = b.toString().split(";");
+        assertThat(numerals.length, Is.is(values.length + 1));
+        final CharSequence[] in = Arrays.copyOfRange(numerals, 1, numerals.length);
+        assertThat(in[41].toString(), Is.is(this.type.format(values[41])));
+
+        final int[] out = new int[in.length];
+        final BitSet failures = this.parallel
+                ? this.type.parseAllParallel(in, out)
+                : this.type.parseAll(in, out);
+        assertThat(failures.isEmpty(), Is.is(true));
+        assertArrayEquals(values, out);
+    }
+
+    @Test
+    public void testParseAllReportsFailures() throws Exception {
+        final int[] values = values();
+        final CharSequence[] in = new CharSequence[values.length];
+        final BitSet expected = new BitSet();
+        for (int i = 0; i < in.length; ++i) {
+            if (i % 97 == 0) {
+                in[i] = "A";
+                expected.set(i);
+            } else if (i % 101 == 0) {
+                in[i] = null;
+                expected.set(i);
+            } else {
+                in[i] = this.type.format(values[i]);
+            }
+        }
+        final int[] out = new int[in.length];
+        final BitSet failures = this.parallel
+                ? this.type.parseAllParallel(in, out)
+                : this.type.parseAll(in, out);
+        assertThat(failures, Is.is(expected));
+        assertThat(out[0], Is.is(-1));
+        assertThat(out[1], Is.is(values[1]));
+    }
+
+    @Test
+    public void testFormatAllIntoCharArray() throws Exception {
+        final int[] values = { 1, 4, 1984 };
+        final String expected = this.type.format(1) + "," + this.type.format(4) + ","
+                + this.type.format(1984);
+        final char[] dest = new char[expected.length() + 2];
+        final int written = this.parallel
+                ? this.type.formatAllParallel(values, ',', dest, 1)
+                : this.type.formatAll(values, ',', dest, 1);
+        assertThat(written, Is.is(expected.length()));
+        assertThat(new String(dest, 1, written), Is.is(expected));
+    }
+
+    @Test
+    public void testFormatAllEmpty() throws Exception {
+        assertThat(this.type.formatAll(new int[0], ',', new char[0], 0), Is.is(0));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testFormatAllArrayTooSmall() throws Exception {
+        this.type.formatAll(new int[] { 1, 2 }, ',', new char[3], 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFormatAllNotDisplayable() throws Exception {
+        this.type.formatAll(new int[] { 1, this.type.getMaxValue() + 1 }, ',',
+                new StringBuilder());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseAllOutputTooShort() throws Exception {
+        this.type.parseAll(new CharSequence[] { "I", "I" }, new int[1]);
+    }
+}
@@ -0,0 +1,75 @@
+package de.skuzzle.roman;
+
+import static org.junit.Assert.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hamcrest.core.Is;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BulkConverterTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path write(String content) throws Exception {
+        final Path file = this.folder.newFile().toPath();
+        Files.write(file, content.getBytes(StandardCharsets.US_ASCII));
+        return file;
+    }
+
+    private List<String> read(Path file) throws Exception {
+        return Files.readAllLines(file, StandardCharsets.US_ASCII);
+    }
+
+    @Test
+    public void testDecimalToRoman() throws Exception {
+        final List<String> expected = new ArrayList<>();
+        final StringBuilder input = new StringBuilder();
+        for (int i = 1; i <= 3999; ++i) {
+            input.append(i).append('\n');
+            expected.add(RomanNumeralType.SINGLE_SUBTRACT.format(i));
+        }
+        final Path output = this.folder.newFile().toPath();
+        final BulkConverter.Summary summary = BulkConverter.convert(null,
+                RomanNumeralType.SINGLE_SUBTRACT, write(input.toString()), output, 7);
+
+        assertThat(summary.getLines(), Is.is(3999L));
+        assertThat(summary.getFailures(), Is.is(0L));
+        assertThat(read(output), Is.is(expected));
+    }
+
+    @Test
+    public void testRomanToDecimal() throws Exception {
+        final Path output = this.folder.newFile().toPath();
+        BulkConverter.convert(RomanNumeralType.LENIENT, null,
+                write("MMXVIII\r\nIM\nXIIII"), output, 2);
+        assertThat(read(output), Is.is(Arrays.asList("2018", "999", "14")));
+    }
+
+    @Test
+    public void testRomanToRomanWithFailures() throws Exception {
+        final Path output = this.folder.newFile().toPath();
+        final BulkConverter.Summary summary = BulkConverter.convert(
+                RomanNumeralType.LENIENT, RomanNumeralType.SINGLE_SUBTRACT,
+                write("XXL\nfoo\n\nMMMMM\nIM\n"), output, 3);
+        assertThat(summary.getFailures(), Is.is(3L));
+        assertThat(read(output), Is.is(Arrays.asList("XXX", "", "", "", "CMXCIX")));
+    }
+
+    @Test
+    public void testEmptyInput() throws Exception {
+        final Path output = this.folder.newFile().toPath();
+        final BulkConverter.Summary summary = BulkConverter.convert(null,
+                RomanNumeralType.ADDITIVE, write(""), output, 4);
+        assertThat(summary.getLines(), Is.is(0L));
+        assertThat(Files.size(output), Is.is(0L));
+    }
+}
@@ -0,0 +1,91 @@
+package de.skuzzle.roman;
+
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.hamcrest.core.Is;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class ConversionTest {
+
+    @Parameters(name = "Convert from {0} to {1}")
+    public static Iterable<Object[]> parameterFactory() {
+        final RomanNumeralType[] types = RomanNumeralType.values();
+        final Object[][] params = new Object[types.length * types.length][];
+        for (int i = 0; i < types.length; ++i) {
+            for (int j = 0; j < types.length; ++j) {
+                params[i * types.length + j] = new Object[] { types[i], types[j] };
+            }
+        }
+        return Arrays.asList(params);
+    }
+
+    private final RomanNumeralType source;
+    private final RomanNumeralType target;
+
+    public ConversionTest(RomanNumeralType source, RomanNumeralType target) {
+        this.source = source;
+        this.target = target;
+    }
+
+    @Test
+    public void testConvertAllValues() throws Exception {
+        final int max = Math.min(this.source.getMaxValue(), this.target.getMaxValue());
+        final StringBuilder b = new StringBuilder();
+        final char[] dest = new char[32];
+        for (int i = 1; i <= max; ++i) {
+            final String input = this.source.format(i);
+            final String expected = this.target.format(i);
+            assertThat(this.source.convertTo(this.target, input), Is.is(expected));
+
+            b.setLength(0);
+            this.source.convertTo(this.target, input, b);
+            assertThat(b.toString(), Is.is(expected));
+
+            final int written = this.source.convertTo(this.target, input, dest, 0);
+            assertThat(new String(dest, 0, written), Is.is(expected));
+        }
+    }
+
+    @Test
+    public void testCanonicalInputIsReturnedUnchanged() throws Exception {
+        final String canonical = new String(this.target.format(1984).toCharArray());
+        if (this.source.tryParse(canonical).isPresent()) {
+            assertSame(canonical, this.source.convertTo(this.target, canonical));
+            assertSame(canonical,
+                    this.source.tryConvertTo(this.target, canonical).get());
+        }
+    }
+
+    @Test
+    public void testConvertToAppendable() throws Exception {
+        final StringWriter writer = new StringWriter();
+        final int written = this.source.convertTo(this.target, this.source.format(42),
+                writer);
+        assertThat(writer.toString(), Is.is(this.target.format(42)));
+        assertThat(written, Is.is(writer.toString().length()));
+    }
+
+    @Test
+    public void testTryConvertInvalid() throws Exception {
+        assertThat(this.source.tryConvertTo(this.target, "A"), Is.is(Optional.empty()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConvertInvalid() throws Exception {
+        this.source.convertTo(this.target, "A", new StringBuilder());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConvertNullTarget() throws Exception {
+        this.source.convertTo(null, "I");
+    }
+}
@@ -0,0 +1,199 @@
+package de.skuzzle.roman;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.text.NumberFormat;
+import java.util.OptionalInt;
+
+import org.junit.Test;
+
+public class CustomNumeralTypeTest {
+
+    private static CustomNumeralType.Builder singleSubtract() {
+        return CustomNumeralType.builder()
+                .withName("MODERN")
+                .withLiteral("M", 1000, 3)
+                .withLiteral("CM", 900, 1)
+                .withLiteral("D", 500, 3)
+                .withLiteral("CD", 400, 1)
+                .withLiteral("C", 100, 3)
+                .withLiteral("XC", 90, 1)
+                .withLiteral("L", 50, 3)
+                .withLiteral("XL", 40, 1)
+                .withLiteral("X", 10, 3)
+                .withLiteral("IX", 9, 1)
+                .withLiteral("V", 5, 3)
+                .withLiteral("IV", 4, 1)
+                .withLiteral("I", 1, 3)
+                .withMaxValue(3999);
+    }
+
+    private static CustomNumeralType clockFace() {
+        return CustomNumeralType.builder()
+                .withName("CLOCK_FACE")
+                .withLiteral("X", 10, 3)
+                .withLiteral("IX", 9, 1)
+                .withLiteral("V", 5, 1)
+                .withLiteral("I", 1, 4)
+                .withMaxValue(12)
+                .build();
+    }
+
+    @Test
+    public void testEquivalentToBuiltInType() throws Exception {
+        final NumeralType subject = singleSubtract().build();
+        final RomanNumeralType reference = RomanNumeralType.SINGLE_SUBTRACT;
+        for (int i = 1; i <= reference.getMaxValue(); ++i) {
+            final String numeral = reference.format(i);
+            assertEquals(numeral, subject.format(i));
+            assertEquals(i, subject.parse(numeral));
+            assertEquals(numeral.length(), subject.formattedLength(i));
+        }
+    }
+
+    @Test
+    public void testLiteralsInAnyOrder() throws Exception {
+        final NumeralType subject = CustomNumeralType.builder()
+                .withLiteral("I", 1)
+                .withLiteral("X", 10)
+                .withLiteral("V", 5)
+                .build();
+        assertEquals("XXVII", subject.format(27));
+        assertEquals(27, subject.parse("XXVII"));
+    }
+
+    @Test
+    public void testClockFace() throws Exception {
+        final NumeralType subject = clockFace();
+        assertEquals("IIII", subject.format(4));
+        assertEquals(4, subject.parse("IIII"));
+        assertEquals(OptionalInt.empty(), subject.tryParse("IV"));
+        assertEquals(OptionalInt.empty(), subject.tryParse("IIIII"));
+        assertEquals(OptionalInt.empty(), subject.tryParse("VV"));
+        assertEquals("CLOCK_FACE", subject.toString());
+    }
+
+    @Test
+    public void testAllowPrefix() throws Exception {
+        final NumeralType subject = CustomNumeralType.builder()
+                .withLiteral("V", 5)
+                .withLiteral("I", 1)
+                .allowPrefix("I", "V")
+                .build();
+        assertEquals(6, subject.parse("IV"));
+        assertFalse(CustomNumeralType.builder()
+                .withLiteral("V", 5)
+                .withLiteral("I", 1)
+                .build()
+                .isValid("IV"));
+    }
+
+    @Test
+    public void testForbidPrefix() throws Exception {
+        // MCM is never formatted because 1900 exceeds the maximum value
+        final NumeralType subject = singleSubtract()
+                .forbidPrefix("M", "CM")
+                .withMaxValue(1899)
+                .build();
+        assertFalse(subject.isValid("MCM"));
+        assertTrue(subject.isValid("MDCCC"));
+    }
+
+    @Test
+    public void testNumberFormat() throws Exception {
+        final NumberFormat format = clockFace().getNumberFormat();
+        assertEquals("XI", format.format(11));
+        assertEquals(9, format.parse("IX").intValue());
+    }
+
+    @Test
+    public void testParsePacked() throws Exception {
+        final long result = clockFace().parsePacked("--VIIIII", 2, 8);
+        assertEquals(NumeralErrorKind.TOO_MANY_CONSECUTIVE,
+                PackedParseResult.getErrorKind(result));
+        assertEquals(7, PackedParseResult.getErrorIndex(result));
+    }
+
+    @Test(expected = RomanNumeralException.class)
+    public void testFormatTooBig() throws Exception {
+        clockFace().format(13);
+    }
+
+    @Test(expected = RomanNumeralException.class)
+    public void testParseInvalid() throws Exception {
+        clockFace().parse("IVX");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingOne() throws Exception {
+        CustomNumeralType.builder().withLiteral("V", 5).build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsupportedCharacter() throws Exception {
+        CustomNumeralType.builder().withLiteral("I", 1).withLiteral("N", 0).build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsupportedCharacterPositive() throws Exception {
+        CustomNumeralType.builder().withLiteral("I", 1).withLiteral("Q", 500).build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDuplicateSymbol() throws Exception {
+        CustomNumeralType.builder().withLiteral("I", 1).withLiteral("I", 2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDuplicateValue() throws Exception {
+        CustomNumeralType.builder().withLiteral("I", 1).withLiteral("X", 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFormatViolatesConsecutiveRule() throws Exception {
+        // 4 would be formatted as IIII
+        CustomNumeralType.builder()
+                .withLiteral("I", 1, 3)
+                .withLiteral("X", 10, 3)
+                .build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFormatViolatesConsecutiveRuleOfBiggestLiteral() throws Exception {
+        // 40 would be formatted as XXXX
+        CustomNumeralType.builder()
+                .withLiteral("I", 1, 3)
+                .withLiteral("V", 5, 1)
+                .withLiteral("IV", 4, 1)
+                .withLiteral("IX", 9, 1)
+                .withLiteral("X", 10, 3)
+                .withMaxValue(40)
+                .build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFormatViolatesPrefixRule() throws Exception {
+        CustomNumeralType.builder()
+                .withLiteral("I", 1)
+                .withLiteral("V", 5)
+                .forbidPrefix("V", "I")
+                .build();
+    }
+
+    @Test
+    public void testMaxValueWithinConsecutiveRule() throws Exception {
+        final NumeralType subject = CustomNumeralType.builder()
+                .withLiteral("I", 1, 3)
+                .withLiteral("V", 5, 1)
+                .withLiteral("IV", 4, 1)
+                .withLiteral("IX", 9, 1)
+                .withLiteral("X", 10, 3)
+                .withMaxValue(39)
+                .build();
+        for (int i = 1; i <= subject.getMaxValue(); ++i) {
+            assertEquals(i, subject.parse(subject.format(i)));
+        }
+    }
+}
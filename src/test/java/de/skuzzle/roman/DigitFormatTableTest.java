@@ -0,0 +1,75 @@
+package de.skuzzle.roman;
+
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+
+import org.hamcrest.core.Is;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class DigitFormatTableTest {
+
+    @Parameters(name = "Format tables of {0}")
+    public static Iterable<Object[]> parameterFactory() {
+        return Arrays.asList(new Object[][] {
+                { RomanNumeralType.LENIENT },
+                { RomanNumeralType.ADDITIVE },
+                { RomanNumeralType.SINGLE_SUBTRACT },
+                { RomanNumeralType.DOUBLE_SUBTRACT },
+        });
+    }
+
+    private final RomanNumeralType type;
+
+    public DigitFormatTableTest(RomanNumeralType type) {
+        this.type = type;
+    }
+
+    private String greedy(int value) {
+        final RomanLiteralStrategy strategy = this.type.getStrategy();
+        final StringBuffer b = new StringBuffer();
+        long val = value;
+        while (val != 0) {
+            final Literal lit = strategy.findNext(val);
+            lit.appendTo(b);
+            val -= lit.intValue();
+        }
+        return b.toString();
+    }
+
+    @Test
+    public void testMatchesGreedyAlgorithm() throws Exception {
+        final DigitFormatTable subject = this.type.getStrategy().getFormatTable();
+        int maxLength = 0;
+        for (int i = 0; i <= this.type.getMaxValue(); ++i) {
+            final String expected = greedy(i);
+            assertThat(new String(subject.toChars(i)), Is.is(expected));
+            assertThat(subject.length(i), Is.is(expected.length()));
+            maxLength = Math.max(maxLength, expected.length());
+        }
+        assertThat(subject.maxLength(), Is.is(maxLength));
+        assertThat(this.type.maxFormattedLength(), Is.is(maxLength));
+    }
+
+    @Test
+    public void testFormatIntoArray() throws Exception {
+        final char[] dest = new char[this.type.maxFormattedLength() + 2];
+        final int written = this.type.format(1984, dest, 2);
+        assertThat(written, Is.is(this.type.formattedLength(1984)));
+        assertThat(new String(dest, 2, written), Is.is(this.type.format(1984)));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testFormatIntoTooSmallArray() throws Exception {
+        this.type.format(3888, new char[3], 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFormattedLengthNegative() throws Exception {
+        this.type.formattedLength(-1);
+    }
+}
@@ -0,0 +1,114 @@
+package de.skuzzle.roman;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.ByteBuffer;
+import java.text.ParsePosition;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class ErrorReportingTest {
+
+    private static NumeralErrorKind kindOf(RomanNumeralType type, String s) {
+        return PackedParseResult.getErrorKind(type.parsePacked(s, 0, s.length()));
+    }
+
+    @Test
+    public void testSuccessHasNoKind() throws Exception {
+        final long result = RomanNumeralType.SINGLE_SUBTRACT.parsePacked("XIV", 0, 3);
+        assertNull(PackedParseResult.getErrorKind(result));
+    }
+
+    @Test
+    public void testEmptyInput() throws Exception {
+        assertEquals(NumeralErrorKind.EMPTY_INPUT,
+                kindOf(RomanNumeralType.SINGLE_SUBTRACT, ""));
+    }
+
+    @Test
+    public void testUnknownLiteral() throws Exception {
+        assertEquals(NumeralErrorKind.UNKNOWN_LITERAL,
+                kindOf(RomanNumeralType.SINGLE_SUBTRACT, "XIA"));
+    }
+
+    @Test
+    public void testIllegalPrefix() throws Exception {
+        assertEquals(NumeralErrorKind.ILLEGAL_PREFIX,
+                kindOf(RomanNumeralType.SINGLE_SUBTRACT, "VX"));
+    }
+
+    @Test
+    public void testTooManyConsecutive() throws Exception {
+        assertEquals(NumeralErrorKind.TOO_MANY_CONSECUTIVE,
+                kindOf(RomanNumeralType.SINGLE_SUBTRACT, "XXXX"));
+        assertEquals(NumeralErrorKind.TOO_MANY_CONSECUTIVE,
+                kindOf(RomanNumeralType.SINGLE_SUBTRACT, "MMMMMMMMMM"));
+    }
+
+    @Test
+    public void testOverflow() throws Exception {
+        final char[] ms = new char[Integer.MAX_VALUE / 1000 + 1];
+        Arrays.fill(ms, 'M');
+        assertEquals(NumeralErrorKind.OVERFLOW,
+                kindOf(RomanNumeralType.LENIENT, new String(ms)));
+    }
+
+    @Test
+    public void testKindSurvivesHeapBufferOffset() throws Exception {
+        final ByteBuffer buffer = ByteBuffer.wrap("--XXXX".getBytes());
+        buffer.position(2);
+        final long result = RomanNumeralType.SINGLE_SUBTRACT.parsePacked(buffer.slice(),
+                0, 4);
+        assertEquals(NumeralErrorKind.TOO_MANY_CONSECUTIVE,
+                PackedParseResult.getErrorKind(result));
+        assertEquals(3, PackedParseResult.getErrorIndex(result));
+    }
+
+    @Test
+    public void testParseException() throws Exception {
+        try {
+            RomanNumeralType.SINGLE_SUBTRACT.parse("XIA");
+            fail();
+        } catch (final RomanNumeralException e) {
+            assertEquals(NumeralErrorKind.UNKNOWN_LITERAL, e.getKind());
+            assertEquals(2, e.getErrorIndex());
+            assertEquals("XIA", e.getInput());
+            assertSame(RomanNumeralType.SINGLE_SUBTRACT, e.getType());
+            assertTrue(e.getMessage().contains("unknown literal at index 2"));
+            assertSame(e.getMessage(), e.getMessage());
+        }
+    }
+
+    @Test
+    public void testFormatException() throws Exception {
+        try {
+            RomanNumeralType.SINGLE_SUBTRACT.format(4000);
+            fail();
+        } catch (final RomanNumeralException e) {
+            assertEquals(NumeralErrorKind.NOT_DISPLAYABLE, e.getKind());
+            assertEquals(-1, e.getErrorIndex());
+        }
+    }
+
+    @Test
+    public void testNegativeFormatException() throws Exception {
+        try {
+            RomanNumeralType.SINGLE_SUBTRACT.format(-1);
+            fail();
+        } catch (final RomanNumeralException e) {
+            assertEquals(NumeralErrorKind.NEGATIVE_VALUE, e.getKind());
+        }
+    }
+
+    @Test
+    public void testParsePositionErrorIndex() throws Exception {
+        final ParsePosition position = new ParsePosition(0);
+        RomanNumeralType.SINGLE_SUBTRACT.getNumberFormat().parse("XIIII", position);
+        assertEquals(4, position.getErrorIndex());
+    }
+}
@@ -0,0 +1,71 @@
+package de.skuzzle.roman;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+
+import org.hamcrest.core.Is;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class FormatCacheTest {
+
+    @Parameters(name = "Format cache for {0}")
+    public static Iterable<Object[]> parameterFactory() {
+        return Arrays.asList(new Object[][] {
+                { RomanNumeralType.LENIENT },
+                { RomanNumeralType.ADDITIVE },
+                { RomanNumeralType.SINGLE_SUBTRACT },
+                { RomanNumeralType.DOUBLE_SUBTRACT },
+        });
+    }
+
+    private final RomanNumeralType type;
+
+    public FormatCacheTest(RomanNumeralType type) {
+        this.type = type;
+    }
+
+    @Test
+    public void testCachedEqualsFormatted() throws Exception {
+        final FormatCache subject = FormatCache.withMaxValue(this.type,
+                this.type.getMaxValue());
+        for (int i = 1; i <= subject.getMaxValue(); ++i) {
+            assertThat(subject.get(i),
+                    Is.is(RomanNumberFormat.getInstance(this.type).format(i)));
+        }
+    }
+
+    @Test
+    public void testReturnsSharedInstance() throws Exception {
+        final FormatCache subject = FormatCache.withMaxValue(this.type, 100);
+        assertSame(subject.get(42), subject.get(42));
+    }
+
+    @Test
+    public void testRespectsMaxValue() throws Exception {
+        final FormatCache subject = FormatCache.withMaxValue(this.type, 100);
+        assertThat(subject.getMaxValue(), Is.is(100));
+        assertNull(subject.get(101));
+        assertNull(subject.get(0));
+        assertNull(subject.get(-1));
+    }
+
+    @Test
+    public void testBoundedByTypeMaxValue() throws Exception {
+        final FormatCache subject = FormatCache.withMaxValue(this.type,
+                Integer.MAX_VALUE);
+        assertThat(subject.getMaxValue(), Is.is(this.type.getMaxValue()));
+    }
+
+    @Test
+    public void testDisabled() throws Exception {
+        final FormatCache subject = FormatCache.withMaxValue(this.type, 0);
+        assertNull(subject.get(1));
+    }
+}
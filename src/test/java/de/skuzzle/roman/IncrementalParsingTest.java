@@ -0,0 +1,178 @@
+package de.skuzzle.roman;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class IncrementalParsingTest {
+
+    @Parameters(name = "Incremental parsing with {0}")
+    public static Iterable<Object[]> parameterFactory() {
+        return Arrays.asList(new Object[][] {
+                { RomanNumeralType.LENIENT },
+                { RomanNumeralType.ADDITIVE },
+                { RomanNumeralType.SINGLE_SUBTRACT },
+                { RomanNumeralType.DOUBLE_SUBTRACT },
+        });
+    }
+
+    private final RomanNumeralType type;
+
+    public IncrementalParsingTest(RomanNumeralType type) {
+        this.type = type;
+    }
+
+    private List<String> inputs() {
+        final List<String> result = new ArrayList<>(Arrays.asList("", "I", "IIII",
+                "IIIII", "VX", "IIX", "IIM", "XIA", "A", "MMMMMMMMMM", "mcmxciv",
+                "ⅫⅠ", "XⅫ", "ⅠⅫ", "MIM", "CCM", "XXXXX"));
+        for (int i = 1; i <= 3999; i += 7) {
+            result.add(this.type.format(i));
+        }
+        final Random random = new Random(42);
+        final String alphabet = "IVXLCDMA";
+        for (int i = 0; i < 200; ++i) {
+            final char[] chars = new char[1 + random.nextInt(8)];
+            for (int j = 0; j < chars.length; ++j) {
+                chars[j] = alphabet.charAt(random.nextInt(alphabet.length()));
+            }
+            result.add(new String(chars));
+        }
+        return result;
+    }
+
+    @Test
+    public void testEqualsParseForEverySplit() throws Exception {
+        final IncrementalNumeralParser parser = this.type.newIncrementalParser();
+        for (final String input : inputs()) {
+            final long expected = this.type.parsePacked(input, 0, input.length());
+            for (int split = 0; split <= input.length(); ++split) {
+                parser.reset();
+                parser.accept(input, 0, split);
+                parser.accept(input, split, input.length());
+                assertEquals(input + " split at " + split, expected,
+                        parser.finishPacked());
+            }
+        }
+    }
+
+    @Test
+    public void testEqualsParseCharByChar() throws Exception {
+        final IncrementalNumeralParser parser = this.type.newIncrementalParser();
+        for (final String input : inputs()) {
+            final char[] chars = input.toCharArray();
+            parser.reset();
+            for (int i = 0; i < chars.length; ++i) {
+                parser.accept(chars, i, i + 1);
+            }
+            assertEquals(input, this.type.parsePacked(input, 0, input.length()),
+                    parser.finishPacked());
+        }
+    }
+
+    @Test
+    public void testBytes() throws Exception {
+        final IncrementalNumeralParser parser = this.type.newIncrementalParser();
+        final byte[] bytes = this.type.format(1994).getBytes(StandardCharsets.US_ASCII);
+        parser.accept(bytes, 0, 2);
+        parser.accept(bytes, 2, bytes.length);
+        assertEquals(1994, parser.finish());
+    }
+
+    @Test
+    public void testByteBuffer() throws Exception {
+        final IncrementalNumeralParser parser = this.type.newIncrementalParser();
+        final ByteBuffer first = ByteBuffer.allocateDirect(4);
+        first.put("MDCL".getBytes(StandardCharsets.US_ASCII)).flip();
+        final ByteBuffer second = ByteBuffer.wrap("XVI".getBytes(StandardCharsets.US_ASCII));
+
+        assertTrue(parser.accept(first));
+        assertTrue(parser.accept(second));
+        assertFalse(first.hasRemaining());
+        assertFalse(second.hasRemaining());
+        assertEquals(1666, parser.finish());
+    }
+
+    @Test
+    public void testStopsAtError() throws Exception {
+        final IncrementalNumeralParser parser = this.type.newIncrementalParser();
+        // errors are detected as soon as the literal following the error is known
+        assertFalse(parser.accept("XAXXX", 0, 5));
+        assertTrue(parser.isFailed());
+        assertFalse(parser.accept("XX", 0, 2));
+        assertEquals(NumeralErrorKind.UNKNOWN_LITERAL,
+                PackedParseResult.getErrorKind(parser.finishPacked()));
+        assertEquals(1, PackedParseResult.getErrorIndex(parser.finishPacked()));
+    }
+
+    @Test
+    public void testFinishThrows() throws Exception {
+        final IncrementalNumeralParser parser = this.type.newIncrementalParser();
+        parser.accept("XAX", 0, 3);
+        try {
+            parser.finish();
+            fail();
+        } catch (final RomanNumeralException e) {
+            assertEquals(NumeralErrorKind.UNKNOWN_LITERAL, e.getKind());
+            assertEquals(1, e.getErrorIndex());
+            assertEquals(this.type, e.getType());
+            assertTrue(e.getMessage().startsWith("Input can not be parsed"));
+        }
+    }
+
+    @Test
+    public void testEmpty() throws Exception {
+        final IncrementalNumeralParser parser = this.type.newIncrementalParser();
+        assertEquals(NumeralErrorKind.EMPTY_INPUT,
+                PackedParseResult.getErrorKind(parser.finishPacked()));
+    }
+
+    @Test
+    public void testReset() throws Exception {
+        final IncrementalNumeralParser parser = this.type.newIncrementalParser();
+        parser.accept("A", 0, 1);
+        parser.reset();
+        assertFalse(parser.isFailed());
+        parser.accept("XII", 0, 3);
+        assertEquals(12, parser.finish());
+        assertEquals(12, parser.finish());
+        parser.reset();
+        parser.accept("VI", 0, 2);
+        assertEquals(6, parser.finish());
+    }
+
+    @Test
+    public void testGetType() throws Exception {
+        assertEquals(this.type, this.type.newIncrementalParser().getType());
+    }
+
+    @Test
+    public void testCustomType() throws Exception {
+        final NumeralType clockFace = CustomNumeralType.builder()
+                .withLiteral("X", 10, 3)
+                .withLiteral("IX", 9, 1)
+                .withLiteral("V", 5, 1)
+                .withLiteral("I", 1, 4)
+                .withMaxValue(12)
+                .build();
+        final IncrementalNumeralParser parser = clockFace.newIncrementalParser();
+        parser.accept("I", 0, 1);
+        parser.accept("III", 0, 3);
+        assertEquals(4, parser.finish());
+        assertEquals(clockFace, parser.getType());
+    }
+}
@@ -0,0 +1,138 @@
+package de.skuzzle.roman;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class LiteralAutomatonTest {
+
+    private static final char[] CHARS = "IVXLCDMA".toCharArray();
+
+    @Parameters(name = "Automaton for {0}")
+    public static Iterable<Object[]> parameterFactory() {
+        return Arrays.asList(new Object[][] {
+                { RomanNumeralType.LENIENT },
+                { RomanNumeralType.ADDITIVE },
+                { RomanNumeralType.SINGLE_SUBTRACT },
+                { RomanNumeralType.DOUBLE_SUBTRACT },
+        });
+    }
+
+    private final RomanNumeralType type;
+
+    public LiteralAutomatonTest(RomanNumeralType type) {
+        this.type = type;
+    }
+
+    @Test
+    public void testMatchesLinearScan() throws Exception {
+        final AbstractRomanLiteralStrategy strategy = (AbstractRomanLiteralStrategy) this.type
+                .getStrategy();
+        final LiteralAutomaton subject = strategy.getAutomaton();
+        final char[] stream = new char[4];
+        final int combinations = (int) Math.pow(CHARS.length, stream.length);
+        for (int c = 0; c < combinations; ++c) {
+            int rest = c;
+            for (int i = 0; i < stream.length; ++i) {
+                stream[i] = CHARS[rest % CHARS.length];
+                rest /= CHARS.length;
+            }
+            for (int start = 0; start < stream.length; ++start) {
+                assertEquals(new String(stream) + " at " + start,
+                        linearScan(strategy.getLiterals(), stream, start),
+                        subject.literalAt(new String(stream), start, stream.length));
+            }
+        }
+    }
+
+    @Test
+    public void testRulesMatchStrategy() throws Exception {
+        final AbstractRomanLiteralStrategy strategy = (AbstractRomanLiteralStrategy) this.type
+                .getStrategy();
+        final LiteralAutomaton subject = strategy.getAutomaton();
+        final Literal[] literals = strategy.getLiterals();
+        for (int i = 0; i < literals.length; ++i) {
+            assertEquals(strategy.getMaxSameConsecutive(literals[i]),
+                    subject.getMaxSameConsecutive(i));
+            for (int j = 0; j < literals.length; ++j) {
+                assertEquals(strategy.isIllegalPrefix(literals[i], literals[j]),
+                        subject.isIllegalPrefix(i, j));
+            }
+        }
+    }
+
+    @Test
+    public void testParseMatchesReferenceImplementation() throws Exception {
+        final AbstractRomanLiteralStrategy strategy = (AbstractRomanLiteralStrategy) this.type
+                .getStrategy();
+        final LiteralAutomaton subject = strategy.getAutomaton();
+        final char[] alphabet = "IVXLCDM".toCharArray();
+        final char[] stream = new char[6];
+        final int combinations = (int) Math.pow(alphabet.length, stream.length);
+        for (int c = 0; c < combinations; ++c) {
+            int rest = c;
+            for (int i = 0; i < stream.length; ++i) {
+                stream[i] = alphabet[rest % alphabet.length];
+                rest /= alphabet.length;
+            }
+            final String input = new String(stream);
+            final long expected = referenceParse(strategy, stream);
+            assertEquals(input, expected, subject.parse(input, 0, stream.length));
+            assertEquals(input, PackedParseResult.isSuccess(expected),
+                    subject.isValid(input, 0, stream.length));
+        }
+    }
+
+    /**
+     * The original parse algorithm which recognizes every literal using a linear scan.
+     */
+    private static long referenceParse(AbstractRomanLiteralStrategy strategy,
+            char[] stream) {
+        final Literal[] literals = strategy.getLiterals();
+        int idx = 0;
+        int sum = 0;
+        int consecutives = 0;
+        int last = LiteralAutomaton.NO_MATCH;
+        int lastIdx = -1;
+        while (idx < stream.length) {
+            final int lit = linearScan(literals, stream, idx);
+            if (lit == LiteralAutomaton.NO_MATCH) {
+                return PackedParseResult.failure(NumeralErrorKind.UNKNOWN_LITERAL, idx);
+            }
+            if (last != LiteralAutomaton.NO_MATCH) {
+                if (strategy.isIllegalPrefix(literals[last], literals[lit])) {
+                    return PackedParseResult.failure(NumeralErrorKind.ILLEGAL_PREFIX,
+                            lastIdx);
+                } else if (last == lit) {
+                    ++consecutives;
+                    if (consecutives == strategy.getMaxSameConsecutive(literals[lit])) {
+                        return PackedParseResult.failure(
+                                NumeralErrorKind.TOO_MANY_CONSECUTIVE, idx);
+                    }
+                } else {
+                    consecutives = 0;
+                }
+            }
+            last = lit;
+            lastIdx = idx;
+            idx += literals[lit].length();
+            sum += literals[lit].intValue();
+        }
+        return PackedParseResult.success(sum);
+    }
+
+    private static int linearScan(Literal[] literals, char[] stream, int start) {
+        for (int i = 0; i < literals.length; ++i) {
+            if (literals[i].matches(stream, start)) {
+                return i;
+            }
+        }
+        return LiteralAutomaton.NO_MATCH;
+    }
+}
@@ -0,0 +1,82 @@
+package de.skuzzle.roman;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Runs with the default settings, in contrast to {@link NumeralEventsTest} which is run
+ * in a separate VM with {@link Settings#FLIGHT_RECORDER_EVENTS} set.
+ */
+public class NumeralEventsDefaultTest {
+
+    private final RomanNumeralType type = RomanNumeralType.SINGLE_SUBTRACT;
+    private Recording recording;
+    private Path file;
+
+    @Before
+    public void setUp() throws Exception {
+        Assume.assumeFalse(Settings.FLIGHT_RECORDER_EVENTS);
+        Assume.assumeTrue(FlightRecorder.isAvailable());
+        this.file = Files.createTempFile("asterix", ".jfr");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (this.recording != null) {
+            this.recording.close();
+        }
+        if (this.file != null) {
+            Files.deleteIfExists(this.file);
+        }
+    }
+
+    @Test
+    public void testDoesNotInitializeFlightRecorder() throws Exception {
+        // another test of this VM may already have started a recording
+        Assume.assumeFalse(FlightRecorder.isInitialized());
+        this.type.parse("XIV");
+        this.type.format(14);
+        assertFalse(NumeralEvents.isActive());
+        assertFalse(FlightRecorder.isInitialized());
+    }
+
+    @Test
+    public void testRecordingStartedAfterFirstUse() throws Exception {
+        this.type.parse("XIV");
+        assertFalse(NumeralEvents.isActive());
+
+        this.recording = new Recording();
+        this.recording.enable("de.skuzzle.roman.Failure");
+        this.recording.start();
+        // detected by the next operation
+        assertTrue(NumeralEvents.isActive());
+        this.type.tryParse("VX");
+
+        this.recording.stop();
+        this.recording.dump(this.file);
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(this.file)
+                .stream()
+                .filter(e -> e.getEventType().getName()
+                        .equals("de.skuzzle.roman.Failure"))
+                .collect(Collectors.toList());
+        assertEquals(1, events.size());
+        assertEquals("ILLEGAL_PREFIX", events.get(0).getString("outcome"));
+        assertFalse(NumeralEvents.isActive());
+    }
+}
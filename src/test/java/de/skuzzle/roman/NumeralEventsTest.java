@@ -0,0 +1,134 @@
+package de.skuzzle.roman;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class NumeralEventsTest {
+
+    private final RomanNumeralType type = RomanNumeralType.SINGLE_SUBTRACT;
+    private Recording recording;
+    private Path file;
+
+    @Before
+    public void setUp() throws Exception {
+        Assume.assumeTrue(FlightRecorder.isAvailable());
+        this.file = Files.createTempFile("asterix", ".jfr");
+        this.recording = new Recording();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (this.recording != null) {
+            this.recording.close();
+        }
+        if (this.file != null) {
+            Files.deleteIfExists(this.file);
+        }
+    }
+
+    private List<RecordedEvent> stop(String name) throws Exception {
+        this.recording.stop();
+        this.recording.dump(this.file);
+        return RecordingFile.readAllEvents(this.file).stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void testInactiveByDefault() throws Exception {
+        this.type.parse("XIV");
+        assertFalse(NumeralEvents.isActive());
+    }
+
+    @Test
+    public void testRecordParse() throws Exception {
+        this.recording.enable("de.skuzzle.roman.Parse").withThreshold(Duration.ZERO);
+        this.recording.start();
+        assertTrue(NumeralEvents.isActive());
+        this.type.parse("XIV");
+        this.type.tryParse("XIIII");
+
+        final List<RecordedEvent> events = stop("de.skuzzle.roman.Parse");
+        assertFalse(NumeralEvents.isActive());
+        assertEquals(2, events.size());
+        assertEquals(this.type.toString(), events.get(0).getString("type"));
+        assertEquals(3, events.get(0).getInt("inputLength"));
+        assertEquals("SUCCESS", events.get(0).getString("outcome"));
+        assertEquals(-1, events.get(0).getInt("errorIndex"));
+        assertEquals("TOO_MANY_CONSECUTIVE", events.get(1).getString("outcome"));
+        assertEquals(4, events.get(1).getInt("errorIndex"));
+    }
+
+    @Test
+    public void testThresholdFiltersFastCalls() throws Exception {
+        this.recording.enable("de.skuzzle.roman.Parse").withThreshold(
+                Duration.ofHours(1));
+        this.recording.start();
+        this.type.parse("XIV");
+
+        assertTrue(stop("de.skuzzle.roman.Parse").isEmpty());
+    }
+
+    @Test
+    public void testRecordFailures() throws Exception {
+        this.recording.enable("de.skuzzle.roman.Failure");
+        this.recording.start();
+        this.type.parse("XIV");
+        this.type.tryParse("VX");
+        this.type.tryConvertTo(RomanNumeralType.SINGLE_SUBTRACT, "A");
+        try {
+            this.type.format(4000);
+        } catch (final RomanNumeralException expected) {
+            // expected
+        }
+
+        final List<RecordedEvent> events = stop("de.skuzzle.roman.Failure");
+        assertEquals(3, events.size());
+        assertEquals("parse", events.get(0).getString("operation"));
+        assertEquals("ILLEGAL_PREFIX", events.get(0).getString("outcome"));
+        assertEquals("convert", events.get(1).getString("operation"));
+        assertEquals("UNKNOWN_LITERAL", events.get(1).getString("outcome"));
+        assertEquals(0, events.get(1).getInt("errorIndex"));
+        assertEquals("format", events.get(2).getString("operation"));
+        assertEquals("NOT_DISPLAYABLE", events.get(2).getString("outcome"));
+    }
+
+    @Test
+    public void testRecordFormatAndConvert() throws Exception {
+        this.recording.enable("de.skuzzle.roman.Format").withThreshold(Duration.ZERO);
+        this.recording.enable("de.skuzzle.roman.Convert").withThreshold(Duration.ZERO);
+        this.recording.start();
+        this.type.getNumberFormat().format(14);
+        RomanNumeralType.LENIENT.convertTo(this.type, "XIIII");
+        this.recording.stop();
+        this.recording.dump(this.file);
+
+        final List<RecordedEvent> all = RecordingFile.readAllEvents(this.file);
+        final List<RecordedEvent> converts = all.stream()
+                .filter(e -> e.getEventType().getName().equals("de.skuzzle.roman.Convert"))
+                .collect(Collectors.toList());
+        assertEquals(1, converts.size());
+        assertEquals(5, converts.get(0).getInt("inputLength"));
+        assertEquals(this.type.toString(), converts.get(0).getString("target"));
+        assertTrue(all.stream()
+                .filter(e -> e.getEventType().getName().equals("de.skuzzle.roman.Format"))
+                .anyMatch(e -> e.getLong("value") == 14));
+    }
+}
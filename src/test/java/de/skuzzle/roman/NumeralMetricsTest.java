@@ -0,0 +1,227 @@
+package de.skuzzle.roman;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class NumeralMetricsTest {
+
+    private final RomanNumeralType type = RomanNumeralType.SINGLE_SUBTRACT;
+    private NumeralMetrics metrics;
+
+    @Before
+    public void setUp() throws Exception {
+        this.metrics = new NumeralMetrics();
+        NumeralMetrics.setListener(this.metrics);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        NumeralMetrics.setListener(null);
+        this.metrics.unregisterMBeans();
+    }
+
+    @Test
+    public void testGetListener() throws Exception {
+        assertSame(this.metrics, NumeralMetrics.getListener());
+    }
+
+    @Test
+    public void testCountParse() throws Exception {
+        this.type.parse("XIV");
+        this.type.tryParse("MCM");
+        this.type.tryParse("VX");
+
+        final NumeralMetricsMXBean bean = this.metrics.forType(this.type);
+        assertEquals(3, bean.getParseCount());
+        assertEquals(0, bean.getFormatCount());
+        assertEquals(1L, bean.getFailureCounts().get("ILLEGAL_PREFIX").longValue());
+        assertEquals(0L, bean.getFailureCounts().get("OVERFLOW").longValue());
+    }
+
+    @Test
+    public void testCountFailedParse() throws Exception {
+        try {
+            this.type.parse("XXXX");
+            fail();
+        } catch (final RomanNumeralException expected) {
+            // expected
+        }
+        final NumeralMetricsMXBean bean = this.metrics.forType(this.type);
+        assertEquals(1, bean.getParseCount());
+        assertEquals(1L, bean.getFailureCounts().get("TOO_MANY_CONSECUTIVE")
+                .longValue());
+    }
+
+    @Test
+    public void testCountFormat() throws Exception {
+        this.type.format(12);
+        this.type.getNumberFormat().format(13);
+        try {
+            this.type.format(4000);
+            fail();
+        } catch (final RomanNumeralException expected) {
+            // expected
+        }
+
+        final NumeralMetricsMXBean bean = this.metrics.forType(this.type);
+        assertEquals(3, bean.getFormatCount());
+        assertEquals(1L, bean.getFailureCounts().get("NOT_DISPLAYABLE").longValue());
+    }
+
+    @Test
+    public void testCountConvert() throws Exception {
+        this.type.convertTo(RomanNumeralType.SINGLE_SUBTRACT, "IV");
+        this.type.tryConvertTo(RomanNumeralType.SINGLE_SUBTRACT, "IIV");
+
+        final NumeralMetricsMXBean bean = this.metrics.forType(this.type);
+        assertEquals(2, bean.getConvertCount());
+        assertEquals(1L, bean.getFailureCounts().get("ILLEGAL_PREFIX").longValue());
+    }
+
+    @Test
+    public void testConvertIsNotCountedAsFormat() throws Exception {
+        RomanNumeralType.LENIENT.convertTo(this.type, "IIII");
+        RomanNumeralType.LENIENT.tryConvertTo(this.type, "VIIII");
+
+        assertEquals(2, this.metrics.forType(RomanNumeralType.LENIENT).getConvertCount());
+        assertEquals(0, this.metrics.forType(this.type).getFormatCount());
+    }
+
+    @Test
+    public void testCountConvertOverloads() throws Exception {
+        this.type.convertTo(RomanNumeralType.LENIENT, "IX", new StringBuilder());
+        this.type.convertTo(RomanNumeralType.LENIENT, "IX", new char[4], 0);
+        try {
+            this.type.convertTo(RomanNumeralType.LENIENT, "IIII", new StringBuilder());
+            fail();
+        } catch (final RomanNumeralException expected) {
+            // expected
+        }
+
+        final NumeralMetricsMXBean bean = this.metrics.forType(this.type);
+        assertEquals(3, bean.getConvertCount());
+        assertEquals(1L, bean.getFailureCounts().get("TOO_MANY_CONSECUTIVE")
+                .longValue());
+    }
+
+    @Test
+    public void testCountFormatWithStyle() throws Exception {
+        this.type.format(12, NumeralStyle.LOWER_CASE);
+        this.type.format(12, NumeralStyle.UPPER_CASE);
+
+        assertEquals(2, this.metrics.forType(this.type).getFormatCount());
+    }
+
+    @Test
+    public void testInputLengthHistogram() throws Exception {
+        this.type.parse("I");
+        this.type.parse("XIV");
+        this.type.parse("XVI");
+        this.type.tryParse(
+                "MMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMM");
+
+        final long[] histogram = this.metrics.forType(this.type).getInputLengthHistogram();
+        assertEquals(1, histogram[1]);
+        assertEquals(2, histogram[3]);
+        assertEquals(1, histogram[histogram.length - 1]);
+    }
+
+    @Test
+    public void testNotifiesCustomListener() throws Exception {
+        final List<Long> timings = new ArrayList<>();
+        NumeralMetrics.setListener(new NumeralMetricsListener() {
+
+            @Override
+            public void onParse(NumeralType type, int inputLength,
+                    NumeralErrorKind failure, long nanos) {
+                timings.add(nanos);
+            }
+        });
+        for (int i = 0; i < 100; ++i) {
+            this.type.parse("IX");
+        }
+        assertEquals(100, timings.size());
+        for (final long nanos : timings) {
+            assertTrue(nanos == NumeralMetricsListener.NOT_SAMPLED || nanos >= 0);
+        }
+        assertEquals(0, this.metrics.forType(this.type).getParseCount());
+    }
+
+    @Test
+    public void testDisabledByDefault() throws Exception {
+        NumeralMetrics.setListener(null);
+        this.type.parse("IX");
+        assertEquals(0, this.metrics.forType(this.type).getParseCount());
+    }
+
+    @Test
+    public void testRegisterMBeans() throws Exception {
+        this.type.parse("IX");
+        this.metrics.registerMBeans();
+
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName name = new ObjectName("de.skuzzle.roman:type=NumeralMetrics,name="
+                + ObjectName.quote(this.type.toString()));
+        assertTrue(server.isRegistered(name));
+        assertEquals(1L, server.getAttribute(name, "ParseCount"));
+
+        this.metrics.unregisterMBeans();
+        assertFalse(server.isRegistered(name));
+    }
+
+    @Test
+    public void testRegisterCustomTypesWithSameName() throws Exception {
+        final CustomNumeralType first = CustomNumeralType.builder()
+                .withLiteral("I", 1)
+                .build();
+        final CustomNumeralType second = CustomNumeralType.builder()
+                .withLiteral("I", 1)
+                .withLiteral("V", 5)
+                .build();
+        this.metrics.registerMBeans();
+        this.metrics.onParse(first, 2, null, NumeralMetricsListener.NOT_SAMPLED);
+        this.metrics.onParse(second, 2, null, NumeralMetricsListener.NOT_SAMPLED);
+
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName pattern = new ObjectName("de.skuzzle.roman:type=NumeralMetrics,"
+                + "name=\"CUSTOM\",*");
+        assertEquals(2, server.queryNames(pattern, null).size());
+
+        this.metrics.unregisterMBeans();
+        assertTrue(server.queryNames(pattern, null).isEmpty());
+    }
+
+    @Test
+    public void testUnregisterOnlyOwnMBeans() throws Exception {
+        this.type.parse("IX");
+        this.metrics.registerMBeans();
+
+        final NumeralMetrics other = new NumeralMetrics();
+        NumeralMetrics.setListener(other);
+        other.registerMBeans();
+        // the MBean of the same name is already registered, recording still works
+        this.type.parse("IX");
+        assertEquals(1, other.forType(this.type).getParseCount());
+        other.unregisterMBeans();
+
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName name = new ObjectName("de.skuzzle.roman:type=NumeralMetrics,name="
+                + ObjectName.quote(this.type.toString()));
+        assertTrue(server.isRegistered(name));
+        assertEquals(1L, server.getAttribute(name, "ParseCount"));
+    }
+}
@@ -0,0 +1,83 @@
+package de.skuzzle.roman;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+public class NumeralStreamTest {
+
+    private static final RomanNumeralType TYPE = RomanNumeralType.SINGLE_SUBTRACT;
+
+    @Test
+    public void testWhitespace() throws Exception {
+        assertArrayEquals(new int[] { 1, 14, 2018 },
+                TYPE.numerals("  I\tXIV \n\n MMXVIII ").toArray());
+    }
+
+    @Test
+    public void testCustomDelimiters() throws Exception {
+        assertArrayEquals(new int[] { 4, 9, 40 },
+                TYPE.numerals("IV,IX;;XL,", ",;").toArray());
+    }
+
+    @Test
+    public void testEmpty() throws Exception {
+        assertEquals(0, TYPE.numerals(" , ", ", ").count());
+        assertEquals(0, TYPE.numerals("").count());
+    }
+
+    @Test
+    public void testParallelMatchesSequential() throws Exception {
+        final StringBuilder text = new StringBuilder();
+        long expectedSum = 0;
+        for (int i = 0; i < 20; ++i) {
+            for (int value = 1; value <= TYPE.getMaxValue(); ++value) {
+                text.append(TYPE.format(value)).append(' ');
+                expectedSum += value;
+            }
+        }
+        assertEquals(expectedSum, TYPE.numerals(text).asLongStream().sum());
+        assertEquals(expectedSum, TYPE.numerals(text).parallel().asLongStream().sum());
+        assertArrayEquals(TYPE.numerals(text).toArray(),
+                TYPE.numerals(text).parallel().toArray());
+    }
+
+    @Test
+    public void testSplitsAtDelimiters() throws Exception {
+        final StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 10000; ++i) {
+            text.append("MMMDCCCLXXXVIII|");
+        }
+        final NumeralSpliterator subject = NumeralSpliterator.of(TYPE,
+                TYPE.getStrategy(), text, "|");
+        final NumeralSpliterator.OfInt prefix = subject.trySplit();
+        final long[] count = new long[1];
+        prefix.forEachRemaining((int value) -> {
+            assertEquals(3888, value);
+            ++count[0];
+        });
+        subject.forEachRemaining((int value) -> {
+            assertEquals(3888, value);
+            ++count[0];
+        });
+        assertEquals(10000, count[0]);
+    }
+
+    @Test
+    public void testInvalidToken() throws Exception {
+        try {
+            TYPE.numerals("XII XIA").toArray();
+            fail();
+        } catch (final RomanNumeralException e) {
+            assertEquals("XIA", e.getInput());
+            assertEquals(2, e.getErrorIndex());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNull() throws Exception {
+        TYPE.numerals(null);
+    }
+}
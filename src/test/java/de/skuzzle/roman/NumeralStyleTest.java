@@ -0,0 +1,104 @@
+package de.skuzzle.roman;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalInt;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class NumeralStyleTest {
+
+    @Parameters(name = "{0} in style {1}")
+    public static Iterable<Object[]> parameterFactory() {
+        final List<Object[]> result = new ArrayList<>();
+        for (final RomanNumeralType type : RomanNumeralType.values()) {
+            for (final NumeralStyle style : NumeralStyle.values()) {
+                result.add(new Object[] { type, style });
+            }
+        }
+        return result;
+    }
+
+    private final RomanNumeralType type;
+    private final NumeralStyle style;
+
+    public NumeralStyleTest(RomanNumeralType type, NumeralStyle style) {
+        this.type = type;
+        this.style = style;
+    }
+
+    @Test
+    public void testFormatAndParse() throws Exception {
+        final int max = Math.min(3999, this.type.getMaxValue());
+        for (int i = 1; i <= max; ++i) {
+            final String upper = this.type.format(i);
+            final String styled = this.type.format(i, this.style);
+            assertEquals(upper.length(), styled.length());
+            for (int j = 0; j < upper.length(); ++j) {
+                assertEquals(this.style.map(upper.charAt(j)), styled.charAt(j));
+            }
+            assertEquals(i, this.type.parse(styled));
+        }
+    }
+
+    @Test
+    public void testMixedStyles() throws Exception {
+        final String numeral = this.type.format(1987);
+        final char[] mixed = numeral.toCharArray();
+        for (int i = 0; i < mixed.length; i += 2) {
+            mixed[i] = this.style.map(mixed[i]);
+        }
+        assertEquals(1987, this.type.parse(new String(mixed)));
+    }
+
+    @Test
+    public void testByteParsingIgnoresCase() throws Exception {
+        final byte[] bytes = this.type.format(2018).toLowerCase().getBytes();
+        assertEquals(2018, this.type.parseInt(bytes, 0, bytes.length));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFormatNegative() throws Exception {
+        this.type.format(-1, this.style);
+    }
+
+    @Test
+    public void testCustomType() throws Exception {
+        final NumeralType custom = CustomNumeralType.builder()
+                .withLiteral("X", 10)
+                .withLiteral("V", 5, 1)
+                .withLiteral("I", 1, 4)
+                .build();
+        final String styled = custom.format(29, this.style);
+        assertEquals(Arrays.asList(29, 7), Arrays.asList(custom.parse(styled),
+                styled.length()));
+    }
+
+    @Test
+    public void testCompoundCodePoints() throws Exception {
+        // U+216B ROMAN NUMERAL TWELVE and U+217B SMALL ROMAN NUMERAL TWELVE
+        assertEquals(OptionalInt.of(12), this.type.tryParse("\u216B"));
+        assertEquals(OptionalInt.of(12), this.type.tryParse("\u217B"));
+        // U+216F ROMAN NUMERAL ONE THOUSAND followed by U+2167 ROMAN NUMERAL EIGHT
+        assertEquals(this.type.tryParse("MVIII"), this.type.tryParse("\u216F\u2167"));
+        assertEquals(this.type.isValid("MVIII"), this.type.isValid("\u216F\u2167"));
+        assertEquals(this.type.tryParse("IV"), this.type.tryParse("\u2163"));
+        assertFalse(this.type.isValid("\u2163\u2163"));
+    }
+
+    @Test
+    public void testCompoundErrorIndex() throws Exception {
+        final long result = this.type.parsePacked("MM\u2185", 0, 3);
+        assertEquals(NumeralErrorKind.UNKNOWN_LITERAL,
+                PackedParseResult.getErrorKind(result));
+        assertEquals(2, PackedParseResult.getErrorIndex(result));
+    }
+}
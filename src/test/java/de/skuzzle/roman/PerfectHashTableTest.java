@@ -0,0 +1,82 @@
+package de.skuzzle.roman;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class PerfectHashTableTest {
+
+    @Parameters(name = "Perfect hash for {0}")
+    public static Iterable<Object[]> parameterFactory() {
+        return Arrays.asList(new Object[][] {
+                { RomanNumeralType.SINGLE_SUBTRACT },
+                { RomanNumeralType.DOUBLE_SUBTRACT },
+        });
+    }
+
+    private final RomanNumeralType type;
+    private final PerfectHashTable subject;
+
+    public PerfectHashTableTest(RomanNumeralType type) {
+        this.type = type;
+        this.subject = ((AbstractRomanLiteralStrategy) type.getStrategy())
+                .getPerfectHashTable();
+    }
+
+    @Test
+    public void testTableIsBuilt() throws Exception {
+        assertNotNull(this.subject);
+    }
+
+    @Test
+    public void testLookupEveryValue() throws Exception {
+        for (int i = 1; i <= this.type.getMaxValue(); ++i) {
+            final String numeral = this.type.format(i);
+            assertEquals(numeral, i, this.subject.lookup(numeral, 0, numeral.length()));
+            final String lower = numeral.toLowerCase();
+            assertEquals(lower, i, this.subject.lookup(lower, 0, lower.length()));
+        }
+    }
+
+    @Test
+    public void testLookupRegion() throws Exception {
+        assertEquals(14, this.subject.lookup("--XIV--", 2, 5));
+    }
+
+    @Test
+    public void testNotFound() throws Exception {
+        for (final String s : new String[] { "", "IIII", "MMMM", "IA", "VIV",
+                "MMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMMM" }) {
+            assertEquals(s, PerfectHashTable.NOT_FOUND,
+                    this.subject.lookup(s, 0, s.length()));
+        }
+    }
+
+    @Test
+    public void testFallbackForNonCanonicalNumerals() throws Exception {
+        // valid, but not produced by format
+        assertEquals(9, this.type.parse("VIV"));
+    }
+
+    @Test
+    public void testFailuresAreReportedByAutomaton() throws Exception {
+        final long result = this.type.parsePacked("XIA", 0, 3);
+        assertEquals(NumeralErrorKind.UNKNOWN_LITERAL,
+                PackedParseResult.getErrorKind(result));
+        assertEquals(2, PackedParseResult.getErrorIndex(result));
+    }
+
+    @Test
+    public void testUnboundedTypesHaveNoTable() throws Exception {
+        assertNull(((AbstractRomanLiteralStrategy) RomanNumeralType.LENIENT
+                .getStrategy()).getPerfectHashTable());
+    }
+}
@@ -0,0 +1,147 @@
+package de.skuzzle.roman;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Generates the source of {@link PrecomputedTables}. Run by the {@code generate-tables}
+ * profile:
+ *
+ * <pre>
+ * mvn -Pgenerate-tables process-test-classes
+ * </pre>
+ *
+ * @author Simon Taddiken
+ */
+public final class PrecomputedTablesGenerator {
+
+    static final Path TARGET = Paths.get("src", "main", "java", "de", "skuzzle", "roman",
+            "PrecomputedTables.java");
+
+    private static final String NL = "\n";
+    private static final int CHARS_PER_LINE = 12;
+
+    private PrecomputedTablesGenerator() {
+        // hidden
+    }
+
+    public static void main(String[] args) throws IOException {
+        final Path target = args.length > 0
+                ? Paths.get(args[0])
+                : TARGET;
+        Files.write(target, generate().getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String generate() {
+        final StringBuilder b = new StringBuilder();
+        b.append("package de.skuzzle.roman;").append(NL)
+                .append(NL)
+                .append("// Generated by PrecomputedTablesGenerator, do not edit. "
+                        + "Regenerate using").append(NL)
+                .append("// mvn -Pgenerate-tables process-test-classes").append(NL)
+                .append(NL)
+                .append("/**").append(NL)
+                .append(" * Holds tables which are expensive to compute at run time as "
+                        + "String constants, so").append(NL)
+                .append(" * that initializing this class only loads constants. Each char "
+                        + "of a String holds one").append(NL)
+                .append(" * table entry.").append(NL)
+                .append(" */").append(NL)
+                .append("final class PrecomputedTables {").append(NL);
+
+        for (final RomanNumeralType type : RomanNumeralType.values()) {
+            final PerfectHashTable table = PerfectHashTable.build(type.getStrategy(),
+                    null);
+            if (!isPerfectHashEnabled(type) || table == null) {
+                continue;
+            }
+            b.append(NL)
+                    .append("    private static final String ").append(type.name())
+                    .append("_DISPLACEMENTS = \"\"");
+            final int[] displacements = table.getDisplacements();
+            for (int i = 0; i < displacements.length; ++i) {
+                if (i % CHARS_PER_LINE == 0) {
+                    b.append(NL).append("            + \"");
+                }
+                appendEscaped(b, displacements[i]);
+                if (i % CHARS_PER_LINE == CHARS_PER_LINE - 1
+                        || i == displacements.length - 1) {
+                    b.append('"');
+                }
+            }
+            b.append(";").append(NL);
+        }
+
+        b.append(NL)
+                .append("    private PrecomputedTables() {").append(NL)
+                .append("        // hidden").append(NL)
+                .append("    }").append(NL)
+                .append(NL)
+                .append("    /**").append(NL)
+                .append("     * Returns the displacements of the given strategy's "
+                        + "{@link PerfectHashTable}.").append(NL)
+                .append("     *").append(NL)
+                .append("     * @param strategy The strategy.").append(NL)
+                .append("     * @return The displacements or {@code null} if they have "
+                        + "not been precomputed.").append(NL)
+                .append("     */").append(NL)
+                .append("    static int[] getDisplacements(RomanLiteralStrategy strategy) {")
+                .append(NL);
+        for (final RomanNumeralType type : RomanNumeralType.values()) {
+            if (!isPerfectHashEnabled(type)) {
+                continue;
+            }
+            b.append("        if (strategy == RomanNumeralType.").append(type.name())
+                    .append(".getStrategy()) {").append(NL)
+                    .append("            return decode(").append(type.name())
+                    .append("_DISPLACEMENTS);").append(NL)
+                    .append("        }").append(NL);
+        }
+        b.append("        return null;").append(NL)
+                .append("    }").append(NL)
+                .append(NL)
+                .append("    private static int[] decode(String table) {").append(NL)
+                .append("        final int[] result = new int[table.length()];")
+                .append(NL)
+                .append("        for (int i = 0; i < result.length; ++i) {").append(NL)
+                .append("            result[i] = table.charAt(i);").append(NL)
+                .append("        }").append(NL)
+                .append("        return result;").append(NL)
+                .append("    }").append(NL)
+                .append("}").append(NL);
+        return b.toString();
+    }
+
+    private static boolean isPerfectHashEnabled(RomanNumeralType type) {
+        final RomanLiteralStrategy strategy = type.getStrategy();
+        return strategy instanceof AbstractRomanLiteralStrategy
+                && ((AbstractRomanLiteralStrategy) strategy).isPerfectHashEnabled();
+    }
+
+    private static void appendEscaped(StringBuilder b, int value) {
+        if (value > Character.MAX_VALUE) {
+            throw new IllegalStateException("Entry does not fit into a char: " + value);
+        }
+        // unicode escapes of line breaks, quotes and backslashes would be translated
+        // before the String literal is parsed
+        switch (value) {
+        case '\n':
+            b.append("\\n");
+            break;
+        case '\r':
+            b.append("\\r");
+            break;
+        case '"':
+            b.append("\\\"");
+            break;
+        case '\\':
+            b.append("\\\\");
+            break;
+        default:
+            b.append(String.format("\\u%04x", value));
+        }
+    }
+}
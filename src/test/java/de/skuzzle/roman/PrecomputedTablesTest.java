@@ -0,0 +1,52 @@
+package de.skuzzle.roman;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.Test;
+
+public class PrecomputedTablesTest {
+
+    @Test
+    public void testGeneratedSourceIsUpToDate() throws Exception {
+        final String actual = new String(
+                Files.readAllBytes(PrecomputedTablesGenerator.TARGET),
+                StandardCharsets.UTF_8);
+        assertEquals("PrecomputedTables.java is stale, regenerate it using "
+                + "mvn -Pgenerate-tables process-test-classes",
+                PrecomputedTablesGenerator.generate(), actual);
+    }
+
+    @Test
+    public void testDisplacementsMatchSearch() throws Exception {
+        final RomanLiteralStrategy strategy = RomanNumeralType.SINGLE_SUBTRACT
+                .getStrategy();
+        final PerfectHashTable searched = PerfectHashTable.build(strategy, null);
+        assertArrayEquals(searched.getDisplacements(),
+                PrecomputedTables.getDisplacements(strategy));
+    }
+
+    @Test
+    public void testNoDisplacementsForUnboundedTypes() throws Exception {
+        assertNull(PrecomputedTables.getDisplacements(
+                RomanNumeralType.LENIENT.getStrategy()));
+    }
+
+    @Test
+    public void testFallbackToSearchForWrongDisplacements() throws Exception {
+        final RomanLiteralStrategy strategy = RomanNumeralType.DOUBLE_SUBTRACT
+                .getStrategy();
+        final int[] wrong = new int[PrecomputedTables.getDisplacements(strategy).length];
+        final PerfectHashTable table = PerfectHashTable.build(strategy, wrong);
+        assertNotNull(table);
+        for (int value = 1; value <= strategy.getMaxValue(); ++value) {
+            final String numeral = RomanNumeralType.DOUBLE_SUBTRACT.format(value);
+            assertEquals(value, table.lookup(numeral, 0, numeral.length()));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package de.skuzzle.roman;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.CharBuffer;
+
+import org.hamcrest.core.Is;
+import org.junit.Test;
+
+public class RegionParsingTest {
+
+    @Test
+    public void testParseStringBuilderRegion() throws Exception {
+        final StringBuilder b = new StringBuilder("Chapter MCMLXXXIV, page 2");
+        assertThat(RomanNumeralType.SINGLE_SUBTRACT.parseInt(b, 8, 17), Is.is(1984));
+    }
+
+    @Test
+    public void testParseCharBufferRegion() throws Exception {
+        final CharBuffer buffer = CharBuffer.wrap("xx MMXVIII yy");
+        assertThat(RomanNumeralType.LENIENT.parseInt(buffer, 3, 10), Is.is(2018));
+    }
+
+    @Test
+    public void testParseIntFailure() throws Exception {
+        assertThat(RomanNumeralType.SINGLE_SUBTRACT.parseInt("XXXX", 0, 4), Is.is(-1));
+    }
+
+    @Test
+    public void testParseEmptyRegion() throws Exception {
+        final long result = RomanNumeralType.LENIENT.parsePacked("XX", 1, 1);
+        assertFalse(PackedParseResult.isSuccess(result));
+        assertThat(PackedParseResult.getErrorIndex(result), Is.is(1));
+    }
+
+    @Test
+    public void testPackedSuccess() throws Exception {
+        final long result = RomanNumeralType.DOUBLE_SUBTRACT.parsePacked("--XXL--", 2, 5);
+        assertTrue(PackedParseResult.isSuccess(result));
+        assertThat(PackedParseResult.getValue(result), Is.is(30));
+        assertThat(PackedParseResult.getErrorIndex(result), Is.is(-1));
+    }
+
+    @Test
+    public void testPackedErrorIndexIsAbsolute() throws Exception {
+        final long result = RomanNumeralType.SINGLE_SUBTRACT.parsePacked("abcLXXXX", 3, 8);
+        assertFalse(PackedParseResult.isSuccess(result));
+        assertThat(PackedParseResult.getErrorIndex(result), Is.is(7));
+    }
+
+    @Test
+    public void testRegionDoesNotReadBeyondEnd() throws Exception {
+        assertThat(RomanNumeralType.SINGLE_SUBTRACT.parseInt("IX", 0, 1), Is.is(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetValueOfFailure() throws Exception {
+        PackedParseResult.getValue(RomanNumeralType.LENIENT.parsePacked("A", 0, 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseNull() throws Exception {
+        RomanNumeralType.LENIENT.parseInt((CharSequence) null, 0, 0);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testIllegalRegion() throws Exception {
+        RomanNumeralType.LENIENT.parseInt("XX", 1, 3);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testNegativeRegion() throws Exception {
+        RomanNumeralType.LENIENT.parseInt("XX", 2, 1);
+    }
+}
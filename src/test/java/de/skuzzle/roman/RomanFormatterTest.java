@@ -0,0 +1,187 @@
+package de.skuzzle.roman;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.temporal.ChronoField;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+public class RomanFormatterTest {
+
+    private static final RomanFormatter FORMATTER = RomanFormatter
+            .of(RomanNumeralType.SINGLE_SUBTRACT);
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOfNull() throws Exception {
+        RomanFormatter.of(null);
+    }
+
+    @Test
+    public void testFormatEqualsType() throws Exception {
+        for (final RomanNumeralType type : RomanNumeralType.values()) {
+            final RomanFormatter formatter = RomanFormatter.of(type);
+            for (int i = 1; i <= 5000 && i <= type.getMaxValue(); ++i) {
+                assertEquals(type.format(i), formatter.format(i));
+            }
+        }
+    }
+
+    @Test
+    public void testFormatIsCached() throws Exception {
+        assertSame(FORMATTER.format(2018), FORMATTER.format(2018));
+        assertSame(FORMATTER.format(12),
+                RomanFormatter.of(RomanNumeralType.SINGLE_SUBTRACT).format(12));
+    }
+
+    @Test
+    public void testWithStyle() throws Exception {
+        final RomanFormatter lower = FORMATTER.withStyle(NumeralStyle.LOWER_CASE);
+        assertEquals("mmxviii", lower.format(2018));
+        assertEquals(NumeralStyle.LOWER_CASE, lower.getStyle());
+        assertEquals(NumeralStyle.UPPER_CASE, FORMATTER.getStyle());
+        assertSame(lower, lower.withStyle(NumeralStyle.LOWER_CASE));
+        assertEquals("\u2179\u2170", FORMATTER
+                .withStyle(NumeralStyle.UNICODE_LOWER_CASE).format(11));
+    }
+
+    @Test
+    public void testWithType() throws Exception {
+        final RomanFormatter additive = FORMATTER.withType(RomanNumeralType.ADDITIVE);
+        assertEquals("IIII", additive.format(4));
+        assertEquals(RomanNumeralType.ADDITIVE, additive.getType());
+        assertEquals("IV", FORMATTER.format(4));
+    }
+
+    @Test
+    public void testFormatAboveCache() throws Exception {
+        final RomanFormatter lenient = RomanFormatter.of(RomanNumeralType.LENIENT)
+                .withStyle(NumeralStyle.LOWER_CASE);
+        assertEquals("mmmmmi", lenient.format(5001));
+    }
+
+    @Test(expected = RomanNumeralException.class)
+    public void testFormatNegative() throws Exception {
+        FORMATTER.format(-1);
+    }
+
+    @Test(expected = RomanNumeralException.class)
+    public void testFormatTooBig() throws Exception {
+        FORMATTER.format(4000);
+    }
+
+    @Test
+    public void testFormatTo() throws Exception {
+        final StringBuilder b = new StringBuilder("Anno ");
+        assertSame(b, FORMATTER.formatTo(1999, b));
+        assertEquals("Anno MCMXCIX", b.toString());
+    }
+
+    @Test
+    public void testFormatYear() throws Exception {
+        assertEquals("MMXVIII", FORMATTER.format(Year.of(2018)));
+    }
+
+    @Test(expected = RomanNumeralException.class)
+    public void testFormatYearTooBig() throws Exception {
+        FORMATTER.format(Year.of(4000));
+    }
+
+    @Test
+    public void testFormatLocalDate() throws Exception {
+        assertEquals("XXI.IV.MMXVIII", FORMATTER.format(LocalDate.of(2018, 4, 21)));
+        assertEquals("xxi/iv/mmxviii", FORMATTER.withStyle(NumeralStyle.LOWER_CASE)
+                .withDateSeparator("/")
+                .format(LocalDate.of(2018, 4, 21)));
+    }
+
+    @Test
+    public void testFormatDate() throws Exception {
+        assertEquals("I.I.MMXIX",
+                FORMATTER.formatDate(LocalDate.of(2019, 1, 1).atStartOfDay()));
+    }
+
+    @Test(expected = java.time.DateTimeException.class)
+    public void testFormatDateUnsupported() throws Exception {
+        FORMATTER.formatDate(YearMonth.of(2019, 1));
+    }
+
+    @Test
+    public void testFormatField() throws Exception {
+        assertEquals("II", FORMATTER.format(LocalTime.of(14, 30),
+                ChronoField.CLOCK_HOUR_OF_AMPM));
+        assertEquals("XII", FORMATTER.format(YearMonth.of(2019, 12),
+                ChronoField.MONTH_OF_YEAR));
+    }
+
+    @Test(expected = RomanNumeralException.class)
+    public void testFormatFieldTooBig() throws Exception {
+        FORMATTER.format(LocalDate.of(2019, 1, 1), ChronoField.EPOCH_DAY);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFormatFieldNull() throws Exception {
+        FORMATTER.format(LocalDate.of(2019, 1, 1), null);
+    }
+
+    @Test
+    public void testParse() throws Exception {
+        assertEquals(2018, FORMATTER.parse("MMXVIII"));
+        assertEquals(2018, FORMATTER.parse(new StringBuilder("mmxviii")));
+        assertEquals(Year.of(1999), FORMATTER.parseYear("MCMXCIX"));
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testParseYearTooBig() throws Exception {
+        // parsing is not bound by the maximum value which can be formatted
+        final char[] numeral = new char[Year.MAX_VALUE / 1000 + 1];
+        Arrays.fill(numeral, 'M');
+        FORMATTER.withType(RomanNumeralType.LENIENT).parseYear(new String(numeral));
+    }
+
+    @Test(expected = RomanNumeralException.class)
+    public void testParseInvalid() throws Exception {
+        FORMATTER.parse("IIII");
+    }
+
+    @Test
+    public void testConcurrentUse() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final RomanFormatter shared = FORMATTER.withStyle(NumeralStyle.UNICODE_UPPER_CASE);
+            final List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 8; ++t) {
+                results.add(executor.submit(() -> {
+                    for (int i = 1; i <= 3999; ++i) {
+                        if (!shared.format(i).equals(RomanNumeralType.SINGLE_SUBTRACT
+                                .format(i, NumeralStyle.UNICODE_UPPER_CASE))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (final Future<Boolean> result : results) {
+                assertEquals(Boolean.TRUE, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testToString() throws Exception {
+        assertEquals("RomanFormatter[SINGLE_SUBTRACT, UPPER_CASE]", FORMATTER.toString());
+    }
+}
@@ -0,0 +1,97 @@
+package de.skuzzle.roman;
+
+import static org.junit.Assert.assertThat;
+
+import java.io.StringReader;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hamcrest.core.Is;
+import org.junit.Test;
+
+public class RomanNumeralScannerTest {
+
+    private static final String TEXT = "Chapter XIV, Article MCMLXXXIV (see MIXED "
+            + "and XIIII) ends with IX";
+
+    private static final List<String> EXPECTED = Arrays.asList(
+            "8-11:14",
+            "21-30:1984",
+            "63-65:9");
+
+    private final List<String> matches = new ArrayList<>();
+
+    private void record(long start, long end, int value) {
+        this.matches.add(start + "-" + end + ":" + value);
+    }
+
+    @Test
+    public void testScanCharSequence() throws Exception {
+        RomanNumeralType.SINGLE_SUBTRACT.getScanner().scan(TEXT, this::record);
+        assertThat(this.matches, Is.is(EXPECTED));
+    }
+
+    @Test
+    public void testLowerCaseWordsAreIgnored() throws Exception {
+        RomanNumeralType.SINGLE_SUBTRACT.getScanner().scan("mix it, did you? civil",
+                this::record);
+        assertThat(this.matches, Is.is(Arrays.asList()));
+    }
+
+    @Test
+    public void testScanUnicodeNumerals() throws Exception {
+        RomanNumeralType.SINGLE_SUBTRACT.getScanner().scan("at \u216B, \u216F\u2167.",
+                this::record);
+        assertThat(this.matches, Is.is(Arrays.asList("3-4:12", "6-8:1008")));
+    }
+
+    @Test
+    public void testScanCharBuffer() throws Exception {
+        RomanNumeralType.SINGLE_SUBTRACT.getScanner().scan(CharBuffer.wrap(TEXT),
+                this::record);
+        assertThat(this.matches, Is.is(EXPECTED));
+    }
+
+    @Test
+    public void testScanReaderAcrossChunkBoundaries() throws Exception {
+        for (int chunkSize = 1; chunkSize < 16; ++chunkSize) {
+            this.matches.clear();
+            RomanNumeralType.SINGLE_SUBTRACT.getScanner()
+                    .withChunkSize(chunkSize)
+                    .scan(new StringReader(TEXT), this::record);
+            assertThat("Chunk size " + chunkSize, this.matches, Is.is(EXPECTED));
+        }
+    }
+
+    @Test
+    public void testScanLenient() throws Exception {
+        RomanNumeralType.LENIENT.getScanner().scan("XIIII", this::record);
+        assertThat(this.matches, Is.is(Arrays.asList("0-5:14")));
+    }
+
+    @Test
+    public void testIgnoreTooLongWords() throws Exception {
+        RomanNumeralType.LENIENT.getScanner()
+                .withMaxNumeralLength(3)
+                .scan("XXX XXXX", this::record);
+        assertThat(this.matches, Is.is(Arrays.asList("0-3:30")));
+    }
+
+    @Test
+    public void testWordStartingWithDigit() throws Exception {
+        RomanNumeralType.LENIENT.getScanner().scan("1X X1 X", this::record);
+        assertThat(this.matches, Is.is(Arrays.asList("6-7:10")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalChunkSize() throws Exception {
+        RomanNumeralType.LENIENT.getScanner().withChunkSize(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullType() throws Exception {
+        RomanNumeralScanner.forType(null);
+    }
+}
@@ -0,0 +1,133 @@
+package de.skuzzle.roman;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.Warning;
+
+public class RomanNumeralTest {
+
+    @Test
+    public void testEquals() throws Exception {
+        EqualsVerifier.forClass(RomanNumeral.class)
+                .withIgnoredFields("numerals")
+                .suppress(Warning.TRANSIENT_FIELDS)
+                .verify();
+    }
+
+    @Test
+    public void testInterned() throws Exception {
+        for (int i = 0; i <= RomanNumeralType.SINGLE_SUBTRACT.getMaxValue(); ++i) {
+            assertSame(RomanNumeral.of(i), RomanNumeral.of(i));
+        }
+    }
+
+    @Test
+    public void testNotInternedAboveBoundedRange() throws Exception {
+        assertNotSame(RomanNumeral.of(4000), RomanNumeral.of(4000));
+        assertEquals(RomanNumeral.of(4000), RomanNumeral.of(4000));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegative() throws Exception {
+        RomanNumeral.of(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooBig() throws Exception {
+        RomanNumeral.of(RomanNumeralType.LENIENT.getMaxValue() + 1);
+    }
+
+    @Test
+    public void testToString() throws Exception {
+        assertEquals("MCMXCIX", RomanNumeral.of(1999).toString());
+        assertEquals("MMMMI", RomanNumeral.of(4001).toString());
+    }
+
+    @Test
+    public void testToStringPerType() throws Exception {
+        final RomanNumeral numeral = RomanNumeral.of(1999);
+        for (final RomanNumeralType type : RomanNumeralType.values()) {
+            assertEquals(type.format(1999), numeral.toString(type));
+        }
+    }
+
+    @Test
+    public void testToStringIsCached() throws Exception {
+        final RomanNumeral numeral = RomanNumeral.of(42);
+        assertSame(numeral.toString(RomanNumeralType.ADDITIVE),
+                numeral.toString(RomanNumeralType.ADDITIVE));
+    }
+
+    @Test
+    public void testToStringCustomType() throws Exception {
+        final NumeralType clockFace = CustomNumeralType.builder()
+                .withLiteral("X", 10, 3)
+                .withLiteral("IX", 9, 1)
+                .withLiteral("V", 5, 1)
+                .withLiteral("I", 1, 4)
+                .withMaxValue(12)
+                .build();
+        assertEquals("IIII", RomanNumeral.of(4).toString(clockFace));
+    }
+
+    @Test(expected = RomanNumeralException.class)
+    public void testToStringNotDisplayable() throws Exception {
+        RomanNumeral.of(4000).toString(RomanNumeralType.SINGLE_SUBTRACT);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testToStringNullType() throws Exception {
+        RomanNumeral.of(1).toString(null);
+    }
+
+    @Test
+    public void testCompareTo() throws Exception {
+        assertTrue(RomanNumeral.of(4).compareTo(RomanNumeral.of(5)) < 0);
+        assertTrue(RomanNumeral.of(5).compareTo(RomanNumeral.of(4)) > 0);
+        assertEquals(0, RomanNumeral.of(5000).compareTo(RomanNumeral.of(5000)));
+    }
+
+    @Test
+    public void testNumberValues() throws Exception {
+        final RomanNumeral numeral = RomanNumeral.of(14);
+        assertEquals(14, numeral.intValue());
+        assertEquals(14L, numeral.longValue());
+        assertEquals(14.0, numeral.doubleValue(), 0.0);
+    }
+
+    @Test
+    public void testParse() throws Exception {
+        assertSame(RomanNumeral.of(4),
+                RomanNumeral.parse("IIII", RomanNumeralType.ADDITIVE));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseInvalid() throws Exception {
+        RomanNumeral.parse("IIII", RomanNumeralType.SINGLE_SUBTRACT);
+    }
+
+    @Test
+    public void testSerializationKeepsInterning() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(out)) {
+            oos.writeObject(RomanNumeral.of(12));
+            oos.writeObject(RomanNumeral.of(5000));
+        }
+        try (ObjectInputStream ois = new ObjectInputStream(
+                new ByteArrayInputStream(out.toByteArray()))) {
+            assertSame(RomanNumeral.of(12), ois.readObject());
+            assertEquals("MMMMM", ois.readObject().toString());
+        }
+    }
+}
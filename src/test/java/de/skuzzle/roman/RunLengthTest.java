@@ -0,0 +1,80 @@
+package de.skuzzle.roman;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+
+import org.hamcrest.core.Is;
+import org.junit.Test;
+
+public class RunLengthTest {
+
+    private static String repeat(char c, int count) {
+        final char[] chars = new char[count];
+        Arrays.fill(chars, c);
+        return new String(chars);
+    }
+
+    @Test
+    public void testParseLongRunAdditive() throws Exception {
+        final String numeral = repeat('M', 50000) + "DCCCCLXXXXVIIII";
+        assertThat(RomanNumeralType.ADDITIVE.parseInt(numeral, 0, numeral.length()),
+                Is.is(50000999));
+    }
+
+    @Test
+    public void testParseLongRunLenient() throws Exception {
+        final String numeral = repeat('M', 50000) + "IM" + repeat('I', 3);
+        assertThat(RomanNumeralType.LENIENT.parseInt(numeral, 0, numeral.length()),
+                Is.is(50000000 + 999 + 3));
+    }
+
+    @Test
+    public void testParseRunFollowedBySubtraction() throws Exception {
+        assertThat(RomanNumeralType.LENIENT.parse("XXXXXIX"), Is.is(50 + 9));
+        assertThat(RomanNumeralType.LENIENT.parse("MMMMMMCCM"), Is.is(6000 + 800));
+        assertThat(RomanNumeralType.LENIENT.parse("IIIIIII"), Is.is(7));
+    }
+
+    @Test
+    public void testParseOverflow() throws Exception {
+        final int ms = Integer.MAX_VALUE / 1000;
+        final String fits = repeat('M', ms);
+        assertThat(RomanNumeralType.ADDITIVE.parseInt(fits, 0, fits.length()),
+                Is.is(ms * 1000));
+
+        final String overflows = fits + "M";
+        final long result = RomanNumeralType.ADDITIVE.parsePacked(overflows, 0,
+                overflows.length());
+        assertFalse(PackedParseResult.isSuccess(result));
+        assertThat(PackedParseResult.getErrorIndex(result), Is.is(ms));
+    }
+
+    @Test
+    public void testParseOverflowAfterRun() throws Exception {
+        final int ms = Integer.MAX_VALUE / 1000;
+        final String overflows = repeat('M', ms) + "DD";
+        final long result = RomanNumeralType.ADDITIVE.parsePacked(overflows, 0,
+                overflows.length());
+        assertThat(PackedParseResult.getErrorIndex(result), Is.is(ms + 1));
+    }
+
+    @Test
+    public void testTooManyConsecutiveWithinRun() throws Exception {
+        final long result = RomanNumeralType.SINGLE_SUBTRACT.parsePacked("MMMMMMMM", 0, 8);
+        assertThat(PackedParseResult.getErrorIndex(result), Is.is(3));
+    }
+
+    @Test
+    public void testFormatLongRun() throws Exception {
+        final int value = RomanNumeralType.ADDITIVE.getMaxValue();
+        final String expected = repeat('M', value / 1000)
+                + RomanNumeralType.ADDITIVE.format(value % 1000);
+        assertThat(RomanNumeralType.ADDITIVE.format(value), Is.is(expected));
+
+        final StringBuilder b = new StringBuilder();
+        RomanNumeralType.ADDITIVE.convertTo(RomanNumeralType.LENIENT, expected, b);
+        assertThat(b.toString(), Is.is(RomanNumeralType.LENIENT.format(value)));
+    }
+}
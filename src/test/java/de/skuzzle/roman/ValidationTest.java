@@ -0,0 +1,79 @@
+package de.skuzzle.roman;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class ValidationTest {
+
+    @Parameters(name = "Validate using {0}")
+    public static Iterable<Object[]> parameterFactory() {
+        return Arrays.asList(new Object[][] {
+                { RomanNumeralType.LENIENT },
+                { RomanNumeralType.ADDITIVE },
+                { RomanNumeralType.SINGLE_SUBTRACT },
+                { RomanNumeralType.DOUBLE_SUBTRACT },
+        });
+    }
+
+    private final RomanNumeralType type;
+
+    public ValidationTest(RomanNumeralType type) {
+        this.type = type;
+    }
+
+    @Test
+    public void testAllFormattedValuesAreValid() throws Exception {
+        for (int i = 1; i <= this.type.getMaxValue(); ++i) {
+            assertTrue(this.type.isValid(this.type.format(i)));
+        }
+    }
+
+    @Test
+    public void testInvalid() throws Exception {
+        assertFalse(this.type.isValid(""));
+        assertFalse(this.type.isValid("IA"));
+        assertFalse(this.type.isValid("DM"));
+        assertFalse(this.type.isValid("mmxvi\u2160a"));
+    }
+
+    @Test
+    public void testRegion() throws Exception {
+        final StringBuilder b = new StringBuilder("--XII--");
+        assertTrue(this.type.isValid(b, 2, 5));
+        assertFalse(this.type.isValid(b, 1, 5));
+    }
+
+    @Test
+    public void testAgreesWithTryParse() throws Exception {
+        for (final String s : new String[] { "XXXX", "IIII", "IXIX", "XXL", "IM",
+                "MMMM", "CCCCCM", "IIV", "VV" }) {
+            assertTrue(s, this.type.isValid(s) == this.type.tryParse(s).isPresent());
+        }
+    }
+
+    @Test
+    public void testOverflowIsInvalid() throws Exception {
+        final char[] ms = new char[Integer.MAX_VALUE / 1000 + 1];
+        Arrays.fill(ms, 'M');
+        final String s = new String(ms);
+        assertTrue(this.type.isValid(s) == this.type.tryParse(s).isPresent());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNull() throws Exception {
+        this.type.isValid(null);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testIllegalRegion() throws Exception {
+        this.type.isValid("XX", 0, 3);
+    }
+}